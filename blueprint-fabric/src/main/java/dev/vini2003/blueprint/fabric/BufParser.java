@@ -29,20 +29,68 @@ import dev.vini2003.blueprint.consumer.Consumer1;
 import dev.vini2003.blueprint.consumer.Consumer2;
 import dev.vini2003.blueprint.encoding.Decoder;
 import dev.vini2003.blueprint.encoding.Encoder;
+import dev.vini2003.blueprint.exception.DecoderException;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.ByteBufUtil;
 import io.netty.buffer.Unpooled;
 import net.minecraft.network.PacketByteBuf;
 import org.jetbrains.annotations.Nullable;
 
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.Collection;
 import java.util.Map;
 
 public class BufParser implements Encoder<PacketByteBuf>, Decoder<PacketByteBuf> {
 	public static final BufParser INSTANCE = new BufParser();
+	public static final BufParser COMPACT = new BufParser(true);
+	
+	public static final int DEFAULT_INITIAL_CAPACITY = 256;
+	
+	private final ByteBufAllocator allocator;
+	
+	private final int initialCapacity;
+	
+	private final boolean compact;
+	
+	public BufParser() {
+		this(false);
+	}
+	
+	public BufParser(boolean compact) {
+		this(null, DEFAULT_INITIAL_CAPACITY, compact);
+	}
+	
+	public BufParser(ByteBufAllocator allocator, int initialCapacity) {
+		this(allocator, initialCapacity, false);
+	}
+	
+	public BufParser(@Nullable ByteBufAllocator allocator, int initialCapacity, boolean compact) {
+		this.allocator = allocator;
+		
+		this.initialCapacity = initialCapacity;
+		
+		this.compact = compact;
+	}
+	
+	@Override
+	public boolean isKeyed() {
+		return false;
+	}
 	
 	@Override
 	public PacketByteBuf createRoot() {
-		return new PacketByteBuf(Unpooled.buffer());
+		return new PacketByteBuf(allocator == null ? Unpooled.buffer(initialCapacity) : allocator.ioBuffer(initialCapacity));
+	}
+	
+	public <T> PacketByteBuf encode(Blueprint<T> blueprint, T value) {
+		return blueprint.encode(this, value);
+	}
+	
+	public <T> PacketByteBuf encode(Blueprint<T> blueprint, T value, PacketByteBuf object) {
+		blueprint.encode(this, value, object);
+		
+		return object;
 	}
 	
 	@Override
@@ -82,12 +130,20 @@ public class BufParser implements Encoder<PacketByteBuf>, Decoder<PacketByteBuf>
 	
 	@Override
 	public void writeInt(@Nullable String key, int value, PacketByteBuf object) {
-		object.writeInt(value);
+		if (compact) {
+			writeVarInt(object, (value << 1) ^ (value >> 31));
+		} else {
+			object.writeInt(value);
+		}
 	}
 	
 	@Override
 	public void writeLong(@Nullable String key, long value, PacketByteBuf object) {
-		object.writeLong(value);
+		if (compact) {
+			writeVarLong(object, (value << 1) ^ (value >> 63));
+		} else {
+			object.writeLong(value);
+		}
 	}
 	
 	@Override
@@ -102,15 +158,23 @@ public class BufParser implements Encoder<PacketByteBuf>, Decoder<PacketByteBuf>
 	
 	@Override
 	public void writeString(@Nullable String key, String value, PacketByteBuf object) {
-		object.writeInt(value.length());
-		object.writeBytes(value.getBytes(StandardCharsets.UTF_8));
+		// Wrapped buffers are not AbstractByteBufs, so ByteBufUtil.writeUtf8 would encode through toString(); writeCharSequence delegates to the parent instead.
+		if (compact) {
+			writeVarInt(object, ByteBufUtil.utf8Bytes(value));
+			object.writeCharSequence(value, StandardCharsets.UTF_8);
+		} else {
+			var lengthIndex = object.writerIndex();
+			
+			object.writeInt(0);
+			object.setInt(lengthIndex, object.writeCharSequence(value, StandardCharsets.UTF_8));
+		}
 	}
 	
 	@Override
 	public <K, V, M extends Map<K, V>> void writeMap(Blueprint<K> keyBlueprint, Blueprint<V> valueBlueprint, @Nullable String key, M value, PacketByteBuf object) {
 		var mapObject = createMap(object);
 		
-		mapObject.writeInt(value.size());
+		writeLength(mapObject, value.size());
 		
 		for (var entry : value.entrySet()) {
 			keyBlueprint.encode(this, null, entry.getKey(), mapObject);
@@ -122,13 +186,107 @@ public class BufParser implements Encoder<PacketByteBuf>, Decoder<PacketByteBuf>
 	public <V, C extends Collection<V>> void writeCollection(Blueprint<V> valueBlueprint, @Nullable String key, C value, PacketByteBuf object) {
 		var listObject = createCollection(object);
 		
-		listObject.writeInt(value.size());
+		writeLength(listObject, value.size());
 		
 		for (var entry : value) {
 			valueBlueprint.encode(this, null, entry, listObject);
 		}
 	}
 	
+	@Override
+	public void writeIntArray(@Nullable String key, int[] value, PacketByteBuf object) {
+		writeLength(object, value.length);
+		
+		if (compact) {
+			for (var element : value) {
+				writeVarInt(object, (element << 1) ^ (element >> 31));
+			}
+		} else {
+			var view = writeView(object, value.length * Integer.BYTES);
+			
+			if (view != null) {
+				view.asIntBuffer().put(value);
+			} else {
+				for (var element : value) {
+					object.writeInt(element);
+				}
+			}
+		}
+	}
+	
+	@Override
+	public void writeLongArray(@Nullable String key, long[] value, PacketByteBuf object) {
+		writeLength(object, value.length);
+		
+		if (compact) {
+			for (var element : value) {
+				writeVarLong(object, (element << 1) ^ (element >> 63));
+			}
+		} else {
+			var view = writeView(object, value.length * Long.BYTES);
+			
+			if (view != null) {
+				view.asLongBuffer().put(value);
+			} else {
+				for (var element : value) {
+					object.writeLong(element);
+				}
+			}
+		}
+	}
+	
+	@Override
+	public void writeFloatArray(@Nullable String key, float[] value, PacketByteBuf object) {
+		writeLength(object, value.length);
+		
+		var view = writeView(object, value.length * Float.BYTES);
+		
+		if (view != null) {
+			view.asFloatBuffer().put(value);
+		} else {
+			for (var element : value) {
+				object.writeFloat(element);
+			}
+		}
+	}
+	
+	@Override
+	public void writeDoubleArray(@Nullable String key, double[] value, PacketByteBuf object) {
+		writeLength(object, value.length);
+		
+		var view = writeView(object, value.length * Double.BYTES);
+		
+		if (view != null) {
+			view.asDoubleBuffer().put(value);
+		} else {
+			for (var element : value) {
+				object.writeDouble(element);
+			}
+		}
+	}
+	
+	@Override
+	public void writeByteArray(@Nullable String key, byte[] value, PacketByteBuf object) {
+		writeLength(object, value.length);
+		
+		object.writeBytes(value);
+	}
+	
+	@Override
+	public void writeShortArray(@Nullable String key, short[] value, PacketByteBuf object) {
+		writeLength(object, value.length);
+		
+		var view = writeView(object, value.length * Short.BYTES);
+		
+		if (view != null) {
+			view.asShortBuffer().put(value);
+		} else {
+			for (var element : value) {
+				object.writeShort(element);
+			}
+		}
+	}
+	
 	@Override
 	public PacketByteBuf read(@Nullable String key, PacketByteBuf object) {
 		return object;
@@ -156,12 +314,24 @@ public class BufParser implements Encoder<PacketByteBuf>, Decoder<PacketByteBuf>
 	
 	@Override
 	public int readInt(@Nullable String key, PacketByteBuf object) {
-		return object.readInt();
+		if (compact) {
+			var value = readVarInt(object);
+			
+			return (value >>> 1) ^ -(value & 1);
+		} else {
+			return object.readInt();
+		}
 	}
 	
 	@Override
 	public long readLong(@Nullable String key, PacketByteBuf object) {
-		return object.readLong();
+		if (compact) {
+			var value = readVarLong(object);
+			
+			return (value >>> 1) ^ -(value & 1);
+		} else {
+			return object.readLong();
+		}
 	}
 	
 	@Override
@@ -176,12 +346,18 @@ public class BufParser implements Encoder<PacketByteBuf>, Decoder<PacketByteBuf>
 	
 	@Override
 	public String readString(@Nullable String key, PacketByteBuf object) {
-		return object.toString(object.readerIndex(), object.readInt(), StandardCharsets.UTF_8);
+		var length = readLength(object);
+		
+		if (length < 0 || length > object.readableBytes()) {
+			throw new DecoderException("String length " + length + " exceeds readable bytes " + object.readableBytes());
+		}
+		
+		return object.readCharSequence(length, StandardCharsets.UTF_8).toString();
 	}
 	
 	@Override
 	public <K, V> void readMap(Blueprint<K> keyBlueprint, Blueprint<V> valueBlueprint, @Nullable String key, PacketByteBuf object, Consumer2<K, V> mapper) {
-		var size = object.readInt();
+		var size = readLength(object);
 		
 		for (var i = 0; i < size; i++) {
 			var mapKey = keyBlueprint.decode(this, null, object, null);
@@ -193,7 +369,7 @@ public class BufParser implements Encoder<PacketByteBuf>, Decoder<PacketByteBuf>
 	
 	@Override
 	public <V> void readCollection(Blueprint<V> valueBlueprint, @Nullable String key, PacketByteBuf object, Consumer1<V> collector) {
-		var size = object.readInt();
+		var size = readLength(object);
 		
 		for (var i = 0; i < size; i++) {
 			var collectionValue = valueBlueprint.decode(this, null, object, null);
@@ -201,4 +377,201 @@ public class BufParser implements Encoder<PacketByteBuf>, Decoder<PacketByteBuf>
 			collector.accept(collectionValue);
 		}
 	}
+	
+	@Override
+	public void skipString(@Nullable String key, PacketByteBuf object) {
+		var length = readLength(object);
+		
+		if (length < 0 || length > object.readableBytes()) {
+			throw new DecoderException("String length " + length + " exceeds readable bytes " + object.readableBytes());
+		}
+		
+		object.skipBytes(length);
+	}
+	
+	@Override
+	public <K, V> void skipMap(Blueprint<K> keyBlueprint, Blueprint<V> valueBlueprint, @Nullable String key, PacketByteBuf object) {
+		var size = readLength(object);
+		
+		for (var i = 0; i < size; i++) {
+			keyBlueprint.skip(this, null, object);
+			valueBlueprint.skip(this, null, object);
+		}
+	}
+	
+	@Override
+	public <V> void skipCollection(Blueprint<V> valueBlueprint, @Nullable String key, PacketByteBuf object) {
+		var size = readLength(object);
+		
+		for (var i = 0; i < size; i++) {
+			valueBlueprint.skip(this, null, object);
+		}
+	}
+	
+	@Override
+	public int[] readIntArray(@Nullable String key, PacketByteBuf object) {
+		var value = new int[readArrayLength(object, compact ? 1 : Integer.BYTES)];
+		
+		if (compact) {
+			for (var i = 0; i < value.length; ++i) {
+				var element = readVarInt(object);
+				
+				value[i] = (element >>> 1) ^ -(element & 1);
+			}
+		} else {
+			readView(object, value.length * Integer.BYTES).asIntBuffer().get(value);
+		}
+		
+		return value;
+	}
+	
+	@Override
+	public long[] readLongArray(@Nullable String key, PacketByteBuf object) {
+		var value = new long[readArrayLength(object, compact ? 1 : Long.BYTES)];
+		
+		if (compact) {
+			for (var i = 0; i < value.length; ++i) {
+				var element = readVarLong(object);
+				
+				value[i] = (element >>> 1) ^ -(element & 1);
+			}
+		} else {
+			readView(object, value.length * Long.BYTES).asLongBuffer().get(value);
+		}
+		
+		return value;
+	}
+	
+	@Override
+	public float[] readFloatArray(@Nullable String key, PacketByteBuf object) {
+		var value = new float[readArrayLength(object, Float.BYTES)];
+		
+		readView(object, value.length * Float.BYTES).asFloatBuffer().get(value);
+		
+		return value;
+	}
+	
+	@Override
+	public double[] readDoubleArray(@Nullable String key, PacketByteBuf object) {
+		var value = new double[readArrayLength(object, Double.BYTES)];
+		
+		readView(object, value.length * Double.BYTES).asDoubleBuffer().get(value);
+		
+		return value;
+	}
+	
+	@Override
+	public byte[] readByteArray(@Nullable String key, PacketByteBuf object) {
+		var value = new byte[readArrayLength(object, Byte.BYTES)];
+		
+		object.readBytes(value);
+		
+		return value;
+	}
+	
+	@Override
+	public short[] readShortArray(@Nullable String key, PacketByteBuf object) {
+		var value = new short[readArrayLength(object, Short.BYTES)];
+		
+		readView(object, value.length * Short.BYTES).asShortBuffer().get(value);
+		
+		return value;
+	}
+	
+	private void writeLength(PacketByteBuf object, int length) {
+		if (compact) {
+			writeVarInt(object, length);
+		} else {
+			object.writeInt(length);
+		}
+	}
+	
+	private int readLength(PacketByteBuf object) {
+		return compact ? readVarInt(object) : object.readInt();
+	}
+	
+	private int readArrayLength(PacketByteBuf object, int elementBytes) {
+		var length = readLength(object);
+		
+		if (length < 0 || (long) length * elementBytes > object.readableBytes()) {
+			throw new DecoderException("Array length " + length + " exceeds readable bytes " + object.readableBytes());
+		}
+		
+		return length;
+	}
+	
+	@Nullable
+	private static ByteBuffer writeView(PacketByteBuf object, int length) {
+		object.ensureWritable(length);
+		
+		if (object.nioBufferCount() != 1) {
+			return null;
+		}
+		
+		var view = object.nioBuffer(object.writerIndex(), length);
+		
+		object.writerIndex(object.writerIndex() + length);
+		
+		return view;
+	}
+	
+	private static ByteBuffer readView(PacketByteBuf object, int length) {
+		var view = object.nioBuffer(object.readerIndex(), length);
+		
+		object.skipBytes(length);
+		
+		return view;
+	}
+	
+	private static void writeVarInt(PacketByteBuf object, int value) {
+		while ((value & ~0x7F) != 0) {
+			object.writeByte((value & 0x7F) | 0x80);
+			
+			value >>>= 7;
+		}
+		
+		object.writeByte(value);
+	}
+	
+	private static void writeVarLong(PacketByteBuf object, long value) {
+		while ((value & ~0x7FL) != 0L) {
+			object.writeByte((int) (value & 0x7F) | 0x80);
+			
+			value >>>= 7;
+		}
+		
+		object.writeByte((int) value);
+	}
+	
+	private static int readVarInt(PacketByteBuf object) {
+		var value = 0;
+		
+		for (var shift = 0; shift < 35; shift += 7) {
+			var b = object.readByte();
+			
+			value |= (b & 0x7F) << shift;
+			
+			if ((b & 0x80) == 0) {
+				return value;
+			}
+		}
+		
+		throw new DecoderException("VarInt is too big");
+	}
+	
+	private static long readVarLong(PacketByteBuf object) {
+		var value = 0L;
+		
+		for (var shift = 0; shift < 70; shift += 7) {
+			var b = object.readByte();
+			
+			value |= (long) (b & 0x7F) << shift;
+			
+			if ((b & 0x80) == 0) {
+				return value;
+			}
+		}
+		
+		throw new DecoderException("VarLong is too big");
+	}
 }
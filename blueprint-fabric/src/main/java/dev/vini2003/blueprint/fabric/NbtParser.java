@@ -67,6 +67,10 @@ public class NbtParser implements Encoder<NbtElement>, Decoder<NbtElement> {
 			} else {
 				nbtCompound.put(key, value);
 			}
+		} else {
+			if (object instanceof NbtList nbtList) {
+				nbtList.add(value);
+			}
 		}
 	}
 	
@@ -279,6 +283,57 @@ public class NbtParser implements Encoder<NbtElement>, Decoder<NbtElement> {
 		}
 	}
 	
+	@Override
+	public void writeIntArray(@Nullable String key, int[] value, NbtElement object) {
+		if (object instanceof NbtList nbtList) {
+			nbtList.add(new NbtIntArray(value));
+		} else {
+			if (object instanceof NbtCompound nbtCompound) {
+				if (key == null) {
+					throw new EncoderException("Cannot write non-keyed int array to " + object.getClass().getName());
+				}
+				
+				nbtCompound.putIntArray(key, value);
+			} else {
+				throw new EncoderException("Cannot write int array to " + object.getClass().getName());
+			}
+		}
+	}
+	
+	@Override
+	public void writeLongArray(@Nullable String key, long[] value, NbtElement object) {
+		if (object instanceof NbtList nbtList) {
+			nbtList.add(new NbtLongArray(value));
+		} else {
+			if (object instanceof NbtCompound nbtCompound) {
+				if (key == null) {
+					throw new EncoderException("Cannot write non-keyed long array to " + object.getClass().getName());
+				}
+				
+				nbtCompound.putLongArray(key, value);
+			} else {
+				throw new EncoderException("Cannot write long array to " + object.getClass().getName());
+			}
+		}
+	}
+	
+	@Override
+	public void writeByteArray(@Nullable String key, byte[] value, NbtElement object) {
+		if (object instanceof NbtList nbtList) {
+			nbtList.add(new NbtByteArray(value));
+		} else {
+			if (object instanceof NbtCompound nbtCompound) {
+				if (key == null) {
+					throw new EncoderException("Cannot write non-keyed byte array to " + object.getClass().getName());
+				}
+				
+				nbtCompound.putByteArray(key, value);
+			} else {
+				throw new EncoderException("Cannot write byte array to " + object.getClass().getName());
+			}
+		}
+	}
+	
 	@Override
 	public NbtElement read(@Nullable String key, NbtElement object) {
 		if (object instanceof NbtCompound nbtCompound) {
@@ -489,4 +544,55 @@ public class NbtParser implements Encoder<NbtElement>, Decoder<NbtElement> {
 			}
 		}
 	}
+	
+	@Override
+	public int[] readIntArray(@Nullable String key, NbtElement object) {
+		if (object instanceof NbtCompound nbtCompound) {
+			if (key == null) {
+				throw new DecoderException("Cannot read non-keyed int array from " + object.getClass().getName());
+			}
+			
+			return nbtCompound.getIntArray(key);
+		} else {
+			if (object instanceof NbtIntArray nbtIntArray) {
+				return nbtIntArray.getIntArray();
+			} else {
+				throw new DecoderException();
+			}
+		}
+	}
+	
+	@Override
+	public long[] readLongArray(@Nullable String key, NbtElement object) {
+		if (object instanceof NbtCompound nbtCompound) {
+			if (key == null) {
+				throw new DecoderException("Cannot read non-keyed long array from " + object.getClass().getName());
+			}
+			
+			return nbtCompound.getLongArray(key);
+		} else {
+			if (object instanceof NbtLongArray nbtLongArray) {
+				return nbtLongArray.getLongArray();
+			} else {
+				throw new DecoderException();
+			}
+		}
+	}
+	
+	@Override
+	public byte[] readByteArray(@Nullable String key, NbtElement object) {
+		if (object instanceof NbtCompound nbtCompound) {
+			if (key == null) {
+				throw new DecoderException("Cannot read non-keyed byte array from " + object.getClass().getName());
+			}
+			
+			return nbtCompound.getByteArray(key);
+		} else {
+			if (object instanceof NbtByteArray nbtByteArray) {
+				return nbtByteArray.getByteArray();
+			} else {
+				throw new DecoderException();
+			}
+		}
+	}
 }
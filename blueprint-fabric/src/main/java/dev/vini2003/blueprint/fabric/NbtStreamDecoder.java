@@ -0,0 +1,457 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 - 2022 vini2003
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.vini2003.blueprint.fabric;
+
+import dev.vini2003.blueprint.Blueprint;
+import dev.vini2003.blueprint.consumer.Consumer1;
+import dev.vini2003.blueprint.consumer.Consumer2;
+import dev.vini2003.blueprint.encoding.Decoder;
+import dev.vini2003.blueprint.exception.DecoderException;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class NbtStreamDecoder implements Decoder<NbtStreamDecoder.Frame> {
+	private static final Map<String, byte[]> NAMES = new ConcurrentHashMap<>();
+	
+	private static final byte END_TYPE = 0;
+	private static final byte BYTE_TYPE = 1;
+	private static final byte SHORT_TYPE = 2;
+	private static final byte INT_TYPE = 3;
+	private static final byte LONG_TYPE = 4;
+	private static final byte FLOAT_TYPE = 5;
+	private static final byte DOUBLE_TYPE = 6;
+	private static final byte BYTE_ARRAY_TYPE = 7;
+	private static final byte STRING_TYPE = 8;
+	private static final byte LIST_TYPE = 9;
+	private static final byte COMPOUND_TYPE = 10;
+	private static final byte INT_ARRAY_TYPE = 11;
+	private static final byte LONG_ARRAY_TYPE = 12;
+	
+	private final ByteBuf buf;
+	
+	private byte type;
+	
+	public NbtStreamDecoder(ByteBuf buf) {
+		this.buf = buf;
+	}
+	
+	public <T> T decode(Blueprint<T> blueprint) {
+		var root = readRoot();
+		
+		var value = blueprint.decode(this, root);
+		
+		buf.readerIndex(root.offset + size(COMPOUND_TYPE, root.offset));
+		
+		return value;
+	}
+	
+	public Frame readRoot() {
+		var offset = buf.readerIndex();
+		
+		if (buf.getByte(offset) != COMPOUND_TYPE) {
+			throw new DecoderException("Cannot read NBT root of type " + buf.getByte(offset));
+		}
+		
+		return new Frame(COMPOUND_TYPE, offset + 3 + buf.getUnsignedShort(offset + 1));
+	}
+	
+	@Override
+	public boolean isRandomAccess() {
+		return false;
+	}
+	
+	@Override
+	public Frame read(@Nullable String key, Frame object) {
+		if (key == null) {
+			return object;
+		}
+		
+		var offset = locate(key, object);
+		
+		if (offset < 0) {
+			throw new DecoderException("Could not find NBT key '" + key + "'");
+		}
+		
+		return new Frame(type, offset);
+	}
+	
+	@Override
+	public boolean readBoolean(@Nullable String key, Frame object) {
+		return readByte(key, object) != 0;
+	}
+	
+	@Override
+	public byte readByte(@Nullable String key, Frame object) {
+		var offset = locate(key, object);
+		
+		return offset < 0 ? 0 : (byte) readNumber(offset);
+	}
+	
+	@Override
+	public short readShort(@Nullable String key, Frame object) {
+		var offset = locate(key, object);
+		
+		return offset < 0 ? 0 : (short) readNumber(offset);
+	}
+	
+	@Override
+	public char readChar(@Nullable String key, Frame object) {
+		return (char) readInt(key, object);
+	}
+	
+	@Override
+	public int readInt(@Nullable String key, Frame object) {
+		var offset = locate(key, object);
+		
+		return offset < 0 ? 0 : (int) readNumber(offset);
+	}
+	
+	@Override
+	public long readLong(@Nullable String key, Frame object) {
+		var offset = locate(key, object);
+		
+		return offset < 0 ? 0L : readNumber(offset);
+	}
+	
+	@Override
+	public float readFloat(@Nullable String key, Frame object) {
+		var offset = locate(key, object);
+		
+		return offset < 0 ? 0.0F : (float) readDecimal(offset);
+	}
+	
+	@Override
+	public double readDouble(@Nullable String key, Frame object) {
+		var offset = locate(key, object);
+		
+		return offset < 0 ? 0.0D : readDecimal(offset);
+	}
+	
+	@Override
+	public String readString(@Nullable String key, Frame object) {
+		var offset = locate(key, object);
+		
+		return offset < 0 || type != STRING_TYPE ? "" : readUtf(offset);
+	}
+	
+	@Override
+	public <K, V> void readMap(Blueprint<K> keyBlueprint, Blueprint<V> valueBlueprint, @Nullable String key, Frame object, Consumer2<K, V> mapper) {
+		var offset = key == null ? object.offset : locate(key, object);
+		
+		if (offset < 0 || (key == null ? object.type : type) != COMPOUND_TYPE) {
+			return;
+		}
+		
+		var keyFrame = new Frame(STRING_TYPE, 0);
+		var valueFrame = new Frame(END_TYPE, 0);
+		
+		while (buf.getByte(offset) != END_TYPE) {
+			keyFrame.offset = offset + 1;
+			
+			valueFrame.type = buf.getByte(offset);
+			valueFrame.offset = offset + 3 + buf.getUnsignedShort(offset + 1);
+			valueFrame.cursor = valueFrame.offset;
+			
+			mapper.accept(keyBlueprint.decode(this, null, keyFrame, null), valueBlueprint.decode(this, null, valueFrame, null));
+			
+			offset = valueFrame.offset + size(valueFrame.type, valueFrame.offset);
+		}
+	}
+	
+	@Override
+	public <V> void readCollection(Blueprint<V> valueBlueprint, @Nullable String key, Frame object, Consumer1<V> collector) {
+		if (key == null && object.type == COMPOUND_TYPE) {
+			throw new DecoderException("Cannot read non-keyed Collection from " + object);
+		}
+		
+		var offset = key == null ? object.offset : locate(key, object);
+		
+		if (offset < 0 || (key == null ? object.type : type) != LIST_TYPE) {
+			throw new DecoderException("Could not find NBT list '" + key + "'");
+		}
+		
+		var valueFrame = new Frame(buf.getByte(offset), offset + 5);
+		var count = buf.getInt(offset + 1);
+		
+		for (var i = 0; i < count; ++i) {
+			valueFrame.cursor = valueFrame.offset;
+			
+			collector.accept(valueBlueprint.decode(this, null, valueFrame, null));
+			
+			valueFrame.offset += size(valueFrame.type, valueFrame.offset);
+		}
+	}
+	
+	@Override
+	public int[] readIntArray(@Nullable String key, Frame object) {
+		var offset = locate(key, object);
+		
+		if (offset < 0) {
+			return new int[0];
+		}
+		
+		if (type != INT_ARRAY_TYPE) {
+			return Decoder.super.readIntArray(key, object);
+		}
+		
+		var value = new int[buf.getInt(offset)];
+		
+		buf.nioBuffer(offset + Integer.BYTES, value.length * Integer.BYTES).asIntBuffer().get(value);
+		
+		return value;
+	}
+	
+	@Override
+	public long[] readLongArray(@Nullable String key, Frame object) {
+		var offset = locate(key, object);
+		
+		if (offset < 0) {
+			return new long[0];
+		}
+		
+		if (type != LONG_ARRAY_TYPE) {
+			return Decoder.super.readLongArray(key, object);
+		}
+		
+		var value = new long[buf.getInt(offset)];
+		
+		buf.nioBuffer(offset + Integer.BYTES, value.length * Long.BYTES).asLongBuffer().get(value);
+		
+		return value;
+	}
+	
+	@Override
+	public byte[] readByteArray(@Nullable String key, Frame object) {
+		var offset = locate(key, object);
+		
+		if (offset < 0) {
+			return new byte[0];
+		}
+		
+		if (type != BYTE_ARRAY_TYPE) {
+			return Decoder.super.readByteArray(key, object);
+		}
+		
+		var value = new byte[buf.getInt(offset)];
+		
+		buf.getBytes(offset + Integer.BYTES, value);
+		
+		return value;
+	}
+	
+	private int locate(@Nullable String key, Frame object) {
+		if (object.type != COMPOUND_TYPE) {
+			type = object.type;
+			
+			return object.offset;
+		}
+		
+		if (key == null) {
+			throw new DecoderException("Cannot read non-keyed value from " + object);
+		}
+		
+		var name = NAMES.computeIfAbsent(key, NbtStreamDecoder::encodeName);
+		
+		var offset = object.cursor;
+		var wrapped = false;
+		
+		while (true) {
+			var tagType = buf.getByte(offset);
+			
+			if (tagType == END_TYPE) {
+				if (wrapped || object.cursor == object.offset) {
+					return -1;
+				}
+				
+				wrapped = true;
+				offset = object.offset;
+				
+				continue;
+			}
+			
+			if (wrapped && offset == object.cursor) {
+				return -1;
+			}
+			
+			var payload = offset + 3 + buf.getUnsignedShort(offset + 1);
+			var next = payload + size(tagType, payload);
+			
+			if (matches(offset + 1, name)) {
+				type = tagType;
+				
+				object.cursor = next;
+				
+				return payload;
+			}
+			
+			offset = next;
+		}
+	}
+	
+	private boolean matches(int offset, byte[] name) {
+		if (buf.getUnsignedShort(offset) != name.length) {
+			return false;
+		}
+		
+		for (var i = 0; i < name.length; ++i) {
+			if (buf.getByte(offset + 2 + i) != name[i]) {
+				return false;
+			}
+		}
+		
+		return true;
+	}
+	
+	private long readNumber(int offset) {
+		return switch (type) {
+			case BYTE_TYPE -> buf.getByte(offset);
+			case SHORT_TYPE -> buf.getShort(offset);
+			case INT_TYPE -> buf.getInt(offset);
+			case LONG_TYPE -> buf.getLong(offset);
+			case FLOAT_TYPE -> (long) Math.floor(buf.getFloat(offset));
+			case DOUBLE_TYPE -> (long) Math.floor(buf.getDouble(offset));
+			default -> 0L;
+		};
+	}
+	
+	private double readDecimal(int offset) {
+		return switch (type) {
+			case FLOAT_TYPE -> buf.getFloat(offset);
+			case DOUBLE_TYPE -> buf.getDouble(offset);
+			default -> readNumber(offset);
+		};
+	}
+	
+	private String readUtf(int offset) {
+		var length = buf.getUnsignedShort(offset);
+		var chars = new char[length];
+		var count = 0;
+		
+		for (var i = offset + 2; i < offset + 2 + length; ++i) {
+			var a = buf.getByte(i) & 0xFF;
+			
+			if (a < 0x80) {
+				chars[count++] = (char) a;
+			} else if ((a & 0xE0) == 0xC0) {
+				chars[count++] = (char) (((a & 0x1F) << 6) | (buf.getByte(++i) & 0x3F));
+			} else if ((a & 0xF0) == 0xE0) {
+				chars[count++] = (char) (((a & 0x0F) << 12) | ((buf.getByte(++i) & 0x3F) << 6) | (buf.getByte(++i) & 0x3F));
+			} else {
+				throw new DecoderException("Malformed NBT string at " + i);
+			}
+		}
+		
+		return new String(chars, 0, count);
+	}
+	
+	private int size(byte type, int offset) {
+		return switch (type) {
+			case END_TYPE -> 0;
+			case BYTE_TYPE -> 1;
+			case SHORT_TYPE -> 2;
+			case INT_TYPE, FLOAT_TYPE -> 4;
+			case LONG_TYPE, DOUBLE_TYPE -> 8;
+			case BYTE_ARRAY_TYPE -> 4 + buf.getInt(offset);
+			case STRING_TYPE -> 2 + buf.getUnsignedShort(offset);
+			case INT_ARRAY_TYPE -> 4 + 4 * buf.getInt(offset);
+			case LONG_ARRAY_TYPE -> 4 + 8 * buf.getInt(offset);
+			case LIST_TYPE -> {
+				var elementType = buf.getByte(offset);
+				var count = buf.getInt(offset + 1);
+				var end = offset + 5;
+				
+				switch (elementType) {
+					case END_TYPE, BYTE_TYPE, SHORT_TYPE, INT_TYPE, LONG_TYPE, FLOAT_TYPE, DOUBLE_TYPE -> end += count * size(elementType, end);
+					default -> {
+						for (var i = 0; i < count; ++i) {
+							end += size(elementType, end);
+						}
+					}
+				}
+				
+				yield end - offset;
+			}
+			case COMPOUND_TYPE -> {
+				var end = offset;
+				
+				while (buf.getByte(end) != END_TYPE) {
+					var payload = end + 3 + buf.getUnsignedShort(end + 1);
+					
+					end = payload + size(buf.getByte(end), payload);
+				}
+				
+				yield end + 1 - offset;
+			}
+			default -> throw new DecoderException("Cannot read NBT tag of type " + type);
+		};
+	}
+	
+	private static byte[] encodeName(String name) {
+		var buf = Unpooled.buffer(name.length());
+		
+		for (var i = 0; i < name.length(); ++i) {
+			var c = name.charAt(i);
+			
+			if (c >= 0x0001 && c <= 0x007F) {
+				buf.writeByte(c);
+			} else if (c <= 0x07FF) {
+				buf.writeByte(0xC0 | ((c >> 6) & 0x1F));
+				buf.writeByte(0x80 | (c & 0x3F));
+			} else {
+				buf.writeByte(0xE0 | ((c >> 12) & 0x0F));
+				buf.writeByte(0x80 | ((c >> 6) & 0x3F));
+				buf.writeByte(0x80 | (c & 0x3F));
+			}
+		}
+		
+		var bytes = new byte[buf.readableBytes()];
+		buf.readBytes(bytes);
+		
+		return bytes;
+	}
+	
+	public static class Frame {
+		private byte type;
+		
+		private int offset;
+		
+		private int cursor;
+		
+		private Frame(byte type, int offset) {
+			this.type = type;
+			this.offset = offset;
+			this.cursor = offset;
+		}
+		
+		@Override
+		public String toString() {
+			return type == COMPOUND_TYPE ? "NBT compound" : "NBT tag of type " + type;
+		}
+	}
+}
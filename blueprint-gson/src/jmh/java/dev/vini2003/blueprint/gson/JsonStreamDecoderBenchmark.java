@@ -0,0 +1,109 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 - 2022 vini2003
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.vini2003.blueprint.gson;
+
+import dev.vini2003.blueprint.Blueprint;
+import dev.vini2003.blueprint.function.Function2;
+import dev.vini2003.blueprint.function.Function4;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.StringReader;
+import java.lang.ref.Reference;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = { "-Xms1g", "-Xmx1g" })
+public class JsonStreamDecoderBenchmark {
+	private static final Blueprint<Entry> ENTRY = Blueprint.compound(
+			Blueprint.INTEGER.key("Id").get(Entry::id),
+			Blueprint.STRING.key("Name").get(Entry::name),
+			Blueprint.DOUBLE.key("X").get(Entry::x),
+			Blueprint.DOUBLE.key("Y").get(Entry::y),
+			(Function4<Integer, String, Double, Double, Entry>) Entry::new
+	);
+	
+	private static final Blueprint<World> WORLD = Blueprint.compound(
+			Blueprint.STRING.key("Name").get(World::name),
+			ENTRY.list().key("Entries").get(World::entries),
+			(Function2<String, List<Entry>, World>) World::new
+	);
+	
+	@Param({"1000", "100000"})
+	public int entries;
+	
+	private String json;
+	
+	@Setup
+	public void setup() {
+		var list = new ArrayList<Entry>(entries);
+		
+		for (var i = 0; i < entries; ++i) {
+			list.add(new Entry(i, "Entry " + i, i * 0.5, i * -0.25));
+		}
+		
+		json = WORLD.encode(JsonParser.INSTANCE, new World("World", list)).toString();
+		
+		// The tree path holds the whole JsonElement tree while decoding, the stream path only its decoded values.
+		var before = usedHeap();
+		var tree = com.google.gson.JsonParser.parseString(json);
+		var after = usedHeap();
+		
+		Reference.reachabilityFence(tree);
+		
+		System.out.println();
+		System.out.println("Document of " + json.length() + " chars, JsonElement tree retains " + (after - before) / 1024 + " KiB");
+	}
+	
+	@Benchmark
+	public World tree() {
+		return WORLD.decode(JsonParser.INSTANCE, com.google.gson.JsonParser.parseString(json));
+	}
+	
+	@Benchmark
+	public World stream() {
+		return new JsonStreamDecoder(new StringReader(json)).decode(WORLD);
+	}
+	
+	private static long usedHeap() {
+		for (var i = 0; i < 3; ++i) {
+			System.gc();
+		}
+		
+		return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+	}
+	
+	public record Entry(int id, String name, double x, double y) {
+	}
+	
+	public record World(String name, List<Entry> entries) {
+	}
+}
@@ -70,6 +70,10 @@ public class JsonParser implements Encoder<JsonElement>, Decoder<JsonElement> {
 			} else {
 				jsonObject.add(key, value);
 			}
+		} else {
+			if (object instanceof JsonArray jsonArray) {
+				jsonArray.add(value);
+			}
 		}
 	}
 	
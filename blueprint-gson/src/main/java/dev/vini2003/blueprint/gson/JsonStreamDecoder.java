@@ -0,0 +1,438 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 - 2022 vini2003
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.vini2003.blueprint.gson;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import dev.vini2003.blueprint.Blueprint;
+import dev.vini2003.blueprint.consumer.Consumer1;
+import dev.vini2003.blueprint.consumer.Consumer2;
+import dev.vini2003.blueprint.encoding.Decoder;
+import dev.vini2003.blueprint.exception.DecoderException;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.HashMap;
+import java.util.Map;
+
+public class JsonStreamDecoder implements Decoder<JsonStreamDecoder.Frame>, Closeable {
+	private static final int OBJECT = 0;
+	private static final int VALUE = 1;
+	private static final int TREE = 2;
+	
+	private final JsonReader reader;
+	
+	private Frame root;
+	
+	public JsonStreamDecoder(Reader reader) {
+		this(new JsonReader(reader));
+	}
+	
+	public JsonStreamDecoder(JsonReader reader) {
+		this.reader = reader;
+	}
+	
+	public <T> T decode(Blueprint<T> blueprint) {
+		var value = blueprint.decode(this, readRoot());
+		
+		finish();
+		
+		return value;
+	}
+	
+	public Frame readRoot() {
+		if (root != null) {
+			throw new DecoderException("Cannot read more than one root in " + getClass().getSimpleName());
+		}
+		
+		try {
+			reader.beginObject();
+		} catch (IOException exception) {
+			throw new DecoderException("Could not read JSON root", exception);
+		}
+		
+		root = new Frame(OBJECT, null);
+		
+		return root;
+	}
+	
+	public void finish() {
+		if (root == null) {
+			return;
+		}
+		
+		try {
+			end(root);
+		} catch (IOException exception) {
+			throw new DecoderException("Could not finish JSON root", exception);
+		}
+	}
+	
+	@Override
+	public void close() {
+		try {
+			reader.close();
+		} catch (IOException exception) {
+			throw new DecoderException("Could not close JSON reader", exception);
+		}
+	}
+	
+	@Override
+	public boolean isRandomAccess() {
+		return false;
+	}
+	
+	@Override
+	public Frame read(@Nullable String key, Frame object) {
+		if (key == null && object.kind == OBJECT) {
+			return object;
+		}
+		
+		try {
+			if (key != null && object.kind == VALUE) {
+				return read(key, read(null, object));
+			}
+			
+			var element = locate(key, object);
+			
+			if (element != null) {
+				return new Frame(TREE, element);
+			}
+			
+			var child = reader.peek() == JsonToken.BEGIN_OBJECT ? new Frame(OBJECT, null) : new Frame(VALUE, null);
+			
+			if (child.kind == OBJECT) {
+				reader.beginObject();
+			}
+			
+			object.child = child;
+			
+			return child;
+		} catch (IOException exception) {
+			throw new DecoderException("Could not read JSON object '" + key + "'", exception);
+		}
+	}
+	
+	@Override
+	public boolean readBoolean(@Nullable String key, Frame object) {
+		try {
+			var element = locate(key, object);
+			
+			return element == null ? reader.nextBoolean() : JsonParser.INSTANCE.readBoolean(null, element);
+		} catch (IOException exception) {
+			throw new DecoderException("Could not read JSON boolean '" + key + "'", exception);
+		}
+	}
+	
+	@Override
+	public byte readByte(@Nullable String key, Frame object) {
+		try {
+			var element = locate(key, object);
+			
+			return element == null ? (byte) reader.nextInt() : JsonParser.INSTANCE.readByte(null, element);
+		} catch (IOException exception) {
+			throw new DecoderException("Could not read JSON byte '" + key + "'", exception);
+		}
+	}
+	
+	@Override
+	public short readShort(@Nullable String key, Frame object) {
+		try {
+			var element = locate(key, object);
+			
+			return element == null ? (short) reader.nextInt() : JsonParser.INSTANCE.readShort(null, element);
+		} catch (IOException exception) {
+			throw new DecoderException("Could not read JSON short '" + key + "'", exception);
+		}
+	}
+	
+	@Override
+	public char readChar(@Nullable String key, Frame object) {
+		try {
+			var element = locate(key, object);
+			
+			return element == null ? reader.nextString().charAt(0) : JsonParser.INSTANCE.readChar(null, element);
+		} catch (IOException exception) {
+			throw new DecoderException("Could not read JSON char '" + key + "'", exception);
+		}
+	}
+	
+	@Override
+	public int readInt(@Nullable String key, Frame object) {
+		try {
+			var element = locate(key, object);
+			
+			return element == null ? reader.nextInt() : JsonParser.INSTANCE.readInt(null, element);
+		} catch (IOException exception) {
+			throw new DecoderException("Could not read JSON int '" + key + "'", exception);
+		}
+	}
+	
+	@Override
+	public long readLong(@Nullable String key, Frame object) {
+		try {
+			var element = locate(key, object);
+			
+			return element == null ? reader.nextLong() : JsonParser.INSTANCE.readLong(null, element);
+		} catch (IOException exception) {
+			throw new DecoderException("Could not read JSON long '" + key + "'", exception);
+		}
+	}
+	
+	@Override
+	public float readFloat(@Nullable String key, Frame object) {
+		try {
+			var element = locate(key, object);
+			
+			return element == null ? (float) reader.nextDouble() : JsonParser.INSTANCE.readFloat(null, element);
+		} catch (IOException exception) {
+			throw new DecoderException("Could not read JSON float '" + key + "'", exception);
+		}
+	}
+	
+	@Override
+	public double readDouble(@Nullable String key, Frame object) {
+		try {
+			var element = locate(key, object);
+			
+			return element == null ? reader.nextDouble() : JsonParser.INSTANCE.readDouble(null, element);
+		} catch (IOException exception) {
+			throw new DecoderException("Could not read JSON double '" + key + "'", exception);
+		}
+	}
+	
+	@Override
+	public String readString(@Nullable String key, Frame object) {
+		try {
+			var element = locate(key, object);
+			
+			return element == null ? reader.nextString() : JsonParser.INSTANCE.readString(null, element);
+		} catch (IOException exception) {
+			throw new DecoderException("Could not read JSON string '" + key + "'", exception);
+		}
+	}
+	
+	@Override
+	public <K, V> void readMap(Blueprint<K> keyBlueprint, Blueprint<V> valueBlueprint, @Nullable String key, Frame object, Consumer2<K, V> mapper) {
+		try {
+			if (key == null && object.kind == OBJECT) {
+				prepare(object);
+				
+				if (object.buffer != null) {
+					for (var entry : object.buffer.entrySet()) {
+						mapper.accept(keyBlueprint.decode(JsonParser.INSTANCE, null, new JsonPrimitive(entry.getKey()), null), valueBlueprint.decode(JsonParser.INSTANCE, null, entry.getValue(), null));
+					}
+					
+					object.buffer = null;
+				}
+				
+				readEntries(keyBlueprint, valueBlueprint, mapper);
+				
+				return;
+			}
+			
+			var element = locate(key, object);
+			
+			if (element != null) {
+				JsonParser.INSTANCE.readMap(keyBlueprint, valueBlueprint, null, element, mapper);
+			} else {
+				reader.beginObject();
+				
+				readEntries(keyBlueprint, valueBlueprint, mapper);
+				
+				reader.endObject();
+			}
+		} catch (IOException exception) {
+			throw new DecoderException("Could not read JSON map '" + key + "'", exception);
+		}
+	}
+	
+	@Override
+	public <V> void readCollection(Blueprint<V> valueBlueprint, @Nullable String key, Frame object, Consumer1<V> collector) {
+		try {
+			var element = locate(key, object);
+			
+			if (element != null) {
+				JsonParser.INSTANCE.readCollection(valueBlueprint, null, element, collector);
+			} else {
+				reader.beginArray();
+				
+				var value = new Frame(VALUE, null);
+				
+				while (reader.hasNext()) {
+					collector.accept(valueBlueprint.decode(this, null, value, null));
+					
+					end(value);
+					
+					value.child = null;
+					value.consumed = false;
+				}
+				
+				reader.endArray();
+			}
+		} catch (IOException exception) {
+			throw new DecoderException("Could not read JSON collection '" + key + "'", exception);
+		}
+	}
+	
+	private <K, V> void readEntries(Blueprint<K> keyBlueprint, Blueprint<V> valueBlueprint, Consumer2<K, V> mapper) throws IOException {
+		var value = new Frame(VALUE, null);
+		
+		while (reader.hasNext()) {
+			var mapKey = keyBlueprint.decode(JsonParser.INSTANCE, null, new JsonPrimitive(reader.nextName()), null);
+			
+			mapper.accept(mapKey, valueBlueprint.decode(this, null, value, null));
+			
+			end(value);
+			
+			value.child = null;
+			value.consumed = false;
+		}
+	}
+	
+	@Nullable
+	private JsonElement locate(@Nullable String key, Frame object) throws IOException {
+		if (object.kind == TREE) {
+			if (key == null || !(object.element instanceof JsonObject jsonObject)) {
+				return object.element;
+			}
+			
+			var element = jsonObject.get(key);
+			
+			if (element == null) {
+				throw new DecoderException("Could not find JSON key '" + key + "'");
+			}
+			
+			return element;
+		}
+		
+		if (object.closed) {
+			throw new DecoderException("Cannot read from finished " + object);
+		}
+		
+		prepare(object);
+		
+		if (object.kind == VALUE) {
+			if (object.consumed) {
+				throw new DecoderException("Cannot read consumed " + object);
+			}
+			
+			object.consumed = true;
+			
+			return null;
+		}
+		
+		if (key == null) {
+			throw new DecoderException("Cannot read non-keyed value from " + object);
+		}
+		
+		if (object.buffer != null) {
+			var element = object.buffer.remove(key);
+			
+			if (element != null) {
+				return element;
+			}
+		}
+		
+		while (reader.hasNext()) {
+			var name = reader.nextName();
+			
+			if (name.equals(key)) {
+				return null;
+			}
+			
+			if (object.buffer == null) {
+				object.buffer = new HashMap<>();
+			}
+			
+			object.buffer.put(name, com.google.gson.JsonParser.parseReader(reader));
+		}
+		
+		throw new DecoderException("Could not find JSON key '" + key + "'");
+	}
+	
+	private void prepare(Frame object) throws IOException {
+		if (object.child != null) {
+			end(object.child);
+			
+			object.child = null;
+		}
+	}
+	
+	private void end(Frame object) throws IOException {
+		prepare(object);
+		
+		if (object.kind == OBJECT && !object.closed) {
+			while (reader.hasNext()) {
+				reader.nextName();
+				reader.skipValue();
+			}
+			
+			reader.endObject();
+			
+			object.buffer = null;
+			object.closed = true;
+		}
+		
+		if (object.kind == VALUE && !object.consumed) {
+			reader.skipValue();
+			
+			object.consumed = true;
+		}
+	}
+	
+	public static class Frame {
+		private final int kind;
+		
+		private final JsonElement element;
+		
+		private Map<String, JsonElement> buffer;
+		
+		private Frame child;
+		
+		private boolean consumed;
+		
+		private boolean closed;
+		
+		private Frame(int kind, @Nullable JsonElement element) {
+			this.kind = kind;
+			this.element = element;
+		}
+		
+		@Override
+		public String toString() {
+			return switch (kind) {
+				case OBJECT -> "JSON object";
+				case VALUE -> "JSON value";
+				default -> "JSON element";
+			};
+		}
+	}
+}
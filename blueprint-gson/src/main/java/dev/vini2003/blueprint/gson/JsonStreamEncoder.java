@@ -0,0 +1,395 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 - 2022 vini2003
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.vini2003.blueprint.gson;
+
+import dev.vini2003.blueprint.Blueprint;
+import dev.vini2003.blueprint.encoding.Encoder;
+import dev.vini2003.blueprint.exception.EncoderException;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class JsonStreamEncoder implements Encoder<JsonStreamEncoder.Frame>, Closeable {
+	private static final Map<String, String> NAMES = new ConcurrentHashMap<>();
+	
+	private static final int OBJECT = 0;
+	private static final int ARRAY = 1;
+	private static final int SLOT = 2;
+	private static final int KEY = 3;
+	
+	private final Appendable appendable;
+	
+	private Frame root;
+	
+	public JsonStreamEncoder(Appendable appendable) {
+		this.appendable = appendable;
+	}
+	
+	public <T> void encode(Blueprint<T> blueprint, T value) {
+		blueprint.encode(this, value);
+		
+		finish();
+	}
+	
+	@Override
+	public Frame createRoot() {
+		if (root != null) {
+			throw new EncoderException("Cannot create more than one root in " + getClass().getSimpleName());
+		}
+		
+		append('{');
+		
+		root = new Frame(OBJECT);
+		
+		return root;
+	}
+	
+	@Override
+	public Frame createCollection(Frame object) {
+		return begin(null, object, ARRAY);
+	}
+	
+	@Override
+	public Frame createMap(Frame object) {
+		return createMap(null, object);
+	}
+	
+	@Override
+	public Frame createMap(@Nullable String key, Frame object) {
+		if (key == null && object.kind == OBJECT) {
+			return object;
+		}
+		
+		return begin(key, object, OBJECT);
+	}
+	
+	@Override
+	public void write(@Nullable String key, Frame value, Frame object) {
+		if (value != object) {
+			end(value);
+		}
+	}
+	
+	@Override
+	public void writeBoolean(@Nullable String key, boolean value, Frame object) {
+		writeRaw(key, value ? "true" : "false", object);
+	}
+	
+	@Override
+	public void writeByte(@Nullable String key, byte value, Frame object) {
+		writeRaw(key, Byte.toString(value), object);
+	}
+	
+	@Override
+	public void writeShort(@Nullable String key, short value, Frame object) {
+		writeRaw(key, Short.toString(value), object);
+	}
+	
+	@Override
+	public void writeChar(@Nullable String key, char value, Frame object) {
+		writeString(key, String.valueOf(value), object);
+	}
+	
+	@Override
+	public void writeInt(@Nullable String key, int value, Frame object) {
+		writeRaw(key, Integer.toString(value), object);
+	}
+	
+	@Override
+	public void writeLong(@Nullable String key, long value, Frame object) {
+		writeRaw(key, Long.toString(value), object);
+	}
+	
+	@Override
+	public void writeFloat(@Nullable String key, float value, Frame object) {
+		if (!Float.isFinite(value)) {
+			throw new EncoderException("Cannot write non-finite float " + value);
+		}
+		
+		writeRaw(key, Float.toString(value), object);
+	}
+	
+	@Override
+	public void writeDouble(@Nullable String key, double value, Frame object) {
+		if (!Double.isFinite(value)) {
+			throw new EncoderException("Cannot write non-finite double " + value);
+		}
+		
+		writeRaw(key, Double.toString(value), object);
+	}
+	
+	@Override
+	public void writeString(@Nullable String key, String value, Frame object) {
+		if (object.kind == KEY) {
+			object.name = value;
+		} else {
+			writeName(key, object);
+			appendQuoted(value);
+		}
+	}
+	
+	@Override
+	public <K, V, M extends Map<K, V>> void writeMap(Blueprint<K> keyBlueprint, Blueprint<V> valueBlueprint, @Nullable String key, M value, Frame object) {
+		if (object.kind != OBJECT) {
+			throw new EncoderException("Cannot write map to " + object);
+		}
+		
+		var mapObject = key == null ? object : begin(key, object, OBJECT);
+		
+		for (var entry : value.entrySet()) {
+			var keyFrame = new Frame(KEY);
+			
+			keyBlueprint.encode(this, null, entry.getKey(), keyFrame);
+			
+			if (keyFrame.name == null) {
+				throw new EncoderException("Cannot write map key " + entry.getKey() + " as a JSON name");
+			}
+			
+			if (!mapObject.empty) {
+				append(',');
+			}
+			
+			mapObject.empty = false;
+			
+			appendQuoted(keyFrame.name);
+			append(':');
+			
+			var valueFrame = new Frame(SLOT);
+			
+			valueBlueprint.encode(this, null, entry.getValue(), valueFrame);
+			
+			if (valueFrame.empty) {
+				append("null");
+			}
+		}
+		
+		if (mapObject != object) {
+			end(mapObject);
+		}
+	}
+	
+	@Override
+	public <V, C extends Collection<V>> void writeCollection(Blueprint<V> valueBlueprint, @Nullable String key, C value, Frame object) {
+		if (object.kind == OBJECT && key == null) {
+			throw new EncoderException("Cannot write non-keyed Collection to " + object);
+		}
+		
+		var listObject = begin(key, object, ARRAY);
+		
+		for (var listValue : value) {
+			valueBlueprint.encode(this, null, listValue, listObject);
+		}
+		
+		end(listObject);
+	}
+	
+	public void finish() {
+		if (root != null) {
+			end(root);
+			
+			root = null;
+		}
+		
+		if (appendable instanceof Flushable flushable) {
+			try {
+				flushable.flush();
+			} catch (IOException e) {
+				throw new EncoderException("Could not flush JSON output", e);
+			}
+		}
+	}
+	
+	@Override
+	public void close() throws IOException {
+		finish();
+		
+		if (appendable instanceof Closeable closeable) {
+			closeable.close();
+		}
+	}
+	
+	private Frame begin(@Nullable String key, Frame object, int kind) {
+		if (object.kind == KEY) {
+			throw new EncoderException("Cannot write " + (kind == OBJECT ? "map" : "collection") + " as a JSON name");
+		}
+		
+		writeName(key, object);
+		append(kind == OBJECT ? '{' : '[');
+		
+		return new Frame(kind);
+	}
+	
+	private void end(Frame frame) {
+		append(frame.kind == OBJECT ? '}' : ']');
+	}
+	
+	private void writeRaw(@Nullable String key, String value, Frame object) {
+		if (object.kind == KEY) {
+			object.name = value;
+		} else {
+			writeName(key, object);
+			append(value);
+		}
+	}
+	
+	private void writeName(@Nullable String key, Frame object) {
+		switch (object.kind) {
+			case OBJECT -> {
+				if (key == null) {
+					throw new EncoderException("Cannot write non-keyed value to " + object);
+				}
+				
+				if (!object.empty) {
+					append(',');
+				}
+				
+				append(NAMES.computeIfAbsent(key, JsonStreamEncoder::escapeName));
+			}
+			case ARRAY -> {
+				if (!object.empty) {
+					append(',');
+				}
+			}
+			case SLOT -> {
+				if (!object.empty) {
+					throw new EncoderException("Cannot write more than one value to " + object);
+				}
+			}
+		}
+		
+		object.empty = false;
+	}
+	
+	private void append(char value) {
+		try {
+			appendable.append(value);
+		} catch (IOException e) {
+			throw new EncoderException("Could not write JSON output", e);
+		}
+	}
+	
+	private void append(String value) {
+		try {
+			appendable.append(value);
+		} catch (IOException e) {
+			throw new EncoderException("Could not write JSON output", e);
+		}
+	}
+	
+	private void appendQuoted(String value) {
+		try {
+			escape(value, appendable);
+		} catch (IOException e) {
+			throw new EncoderException("Could not write JSON output", e);
+		}
+	}
+	
+	private static String escapeName(String key) {
+		var builder = new StringBuilder(key.length() + 3);
+		
+		try {
+			escape(key, builder);
+		} catch (IOException e) {
+			throw new EncoderException(e);
+		}
+		
+		return builder.append(':').toString();
+	}
+	
+	private static void escape(String value, Appendable appendable) throws IOException {
+		appendable.append('"');
+		
+		var last = 0;
+		var length = value.length();
+		
+		for (var i = 0; i < length; ++i) {
+			var c = value.charAt(i);
+			
+			String replacement;
+			
+			if (c < 0x20) {
+				replacement = switch (c) {
+					case '\t' -> "\\t";
+					case '\b' -> "\\b";
+					case '\n' -> "\\n";
+					case '\r' -> "\\r";
+					case '\f' -> "\\f";
+					default -> String.format("\\u%04x", (int) c);
+				};
+			} else if (c == '"') {
+				replacement = "\\\"";
+			} else if (c == '\\') {
+				replacement = "\\\\";
+			} else if (c == '\u2028') {
+				replacement = "\\u2028";
+			} else if (c == '\u2029') {
+				replacement = "\\u2029";
+			} else {
+				continue;
+			}
+			
+			if (last < i) {
+				appendable.append(value, last, i);
+			}
+			
+			appendable.append(replacement);
+			
+			last = i + 1;
+		}
+		
+		if (last < length) {
+			appendable.append(value, last, length);
+		}
+		
+		appendable.append('"');
+	}
+	
+	public static class Frame {
+		private final int kind;
+		
+		private boolean empty = true;
+		
+		private String name;
+		
+		private Frame(int kind) {
+			this.kind = kind;
+		}
+		
+		@Override
+		public String toString() {
+			return switch (kind) {
+				case OBJECT -> "JSON object";
+				case ARRAY -> "JSON array";
+				case SLOT -> "JSON value";
+				default -> "JSON name";
+			};
+		}
+	}
+}
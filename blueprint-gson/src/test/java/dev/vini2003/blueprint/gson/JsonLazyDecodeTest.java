@@ -0,0 +1,112 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 - 2022 vini2003
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.vini2003.blueprint.gson;
+
+import dev.vini2003.blueprint.Blueprint;
+import dev.vini2003.blueprint.annotation.Blueprintable;
+import dev.vini2003.blueprint.encoding.ClassDictionary;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JsonLazyDecodeTest {
+	@Test
+	public void lazyDecodeOutOfOrder() {
+		Blueprint<Lists> blueprint = Blueprint.of(Lists.class);
+		
+		var json = blueprint.encode(JsonParser.INSTANCE, new Lists(List.of(1), List.of(2)));
+		
+		var lazy = blueprint.lazy().decode(JsonParser.INSTANCE, json);
+		
+		assertEquals(List.of(2), lazy.get("b"));
+		assertFalse(lazy.isDecoded(0));
+		assertEquals(List.of(1), lazy.get("a"));
+	}
+	
+	@Test
+	public void lazyDecodeWithDictionary() {
+		Blueprint<Lists> blueprint = Blueprint.of(Lists.class);
+		
+		try (var dictionary = ClassDictionary.open()) {
+			var json = blueprint.encode(JsonParser.INSTANCE, new Lists(List.of(1), List.of(2)));
+			
+			try (var decodeDictionary = ClassDictionary.open()) {
+				var lazy = blueprint.lazy().decode(JsonParser.INSTANCE, json);
+				
+				assertEquals(List.of(2), lazy.get("b"));
+				assertEquals(List.of(1), lazy.get("a"));
+			}
+		}
+	}
+	
+	@Test
+	public void projectionWithDictionary() {
+		Blueprint<Lists> blueprint = Blueprint.of(Lists.class);
+		
+		try (var dictionary = ClassDictionary.open()) {
+			var json = blueprint.encode(JsonParser.INSTANCE, new Lists(List.of(1), List.of(2)));
+			
+			try (var decodeDictionary = ClassDictionary.open()) {
+				var projection = blueprint.project("b").decode(JsonParser.INSTANCE, json);
+				
+				assertEquals(List.of(2), projection.get("b"));
+				assertFalse(projection.isDecoded(0));
+			}
+		}
+	}
+	
+	@Blueprintable
+	public static class Lists {
+		private List<Integer> a = new ArrayList<>();
+		private List<Integer> b = new ArrayList<>();
+		
+		public Lists() {
+		}
+		
+		public Lists(List<Integer> a, List<Integer> b) {
+			this.a = a;
+			this.b = b;
+		}
+		
+		public List<Integer> getA() {
+			return a;
+		}
+		
+		public void setA(List<Integer> a) {
+			this.a = a;
+		}
+		
+		public List<Integer> getB() {
+			return b;
+		}
+		
+		public void setB(List<Integer> b) {
+			this.b = b;
+		}
+	}
+}
@@ -0,0 +1,258 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 - 2022 vini2003
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.vini2003.blueprint.compiled;
+
+import dev.vini2003.blueprint.Blueprint;
+import dev.vini2003.blueprint.annotation.Blueprintable;
+import dev.vini2003.blueprint.netty.BufParser;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BoundBenchmark {
+	// "compiled" shares one set of code paths across every shape, "interpreted" shares the BoundCodecTemplate
+	// switch interpreter, and "bound" defines a hidden copy of the template per shape.
+	@Param({"compiled", "interpreted", "bound"})
+	public String mode;
+	
+	private final BufParser parser = BufParser.INSTANCE;
+	
+	private final Object[] values = {
+			new Position(1, 2, 3),
+			new Profile("Steve", 27, 9_000_000_000L),
+			new Reading(0.5, 1.5F, (short) 7, true),
+			new Message("Hello", "World", 42)
+	};
+	
+	private Blueprint<Object>[] blueprints;
+	
+	private ByteBuf[] encoded;
+	
+	private ByteBuf buffer;
+	
+	@Setup
+	@SuppressWarnings("unchecked")
+	public void setup() {
+		blueprints = new Blueprint[values.length];
+		encoded = new ByteBuf[values.length];
+		
+		for (var i = 0; i < values.length; ++i) {
+			Blueprint<Object> compiled = Blueprint.of(values[i].getClass()).compile();
+			
+			blueprints[i] = switch (mode) {
+				case "interpreted" -> new BoundBlueprint<>(compiled, parser, parser, false);
+				case "bound" -> new BoundBlueprint<>(compiled, parser, parser, true);
+				default -> compiled;
+			};
+			
+			encoded[i] = parser.encode(blueprints[i], values[i]);
+		}
+		
+		buffer = Unpooled.buffer(256);
+	}
+	
+	@Benchmark
+	public void encode(Blackhole blackhole) {
+		for (var i = 0; i < values.length; ++i) {
+			buffer.clear();
+			
+			blackhole.consume(parser.encode(blueprints[i], values[i], buffer));
+		}
+	}
+	
+	@Benchmark
+	public void decode(Blackhole blackhole) {
+		for (var i = 0; i < values.length; ++i) {
+			blackhole.consume(blueprints[i].decode(parser, encoded[i].duplicate()));
+		}
+	}
+	
+	@Blueprintable
+	public static class Position {
+		private int x;
+		private int y;
+		private int z;
+		
+		public Position(int x, int y, int z) {
+			this.x = x;
+			this.y = y;
+			this.z = z;
+		}
+		
+		public int getX() {
+			return x;
+		}
+		
+		public void setX(int x) {
+			this.x = x;
+		}
+		
+		public int getY() {
+			return y;
+		}
+		
+		public void setY(int y) {
+			this.y = y;
+		}
+		
+		public int getZ() {
+			return z;
+		}
+		
+		public void setZ(int z) {
+			this.z = z;
+		}
+	}
+	
+	@Blueprintable
+	public static class Profile {
+		private String name;
+		private int age;
+		private long id;
+		
+		public Profile(String name, int age, long id) {
+			this.name = name;
+			this.age = age;
+			this.id = id;
+		}
+		
+		public String getName() {
+			return name;
+		}
+		
+		public void setName(String name) {
+			this.name = name;
+		}
+		
+		public int getAge() {
+			return age;
+		}
+		
+		public void setAge(int age) {
+			this.age = age;
+		}
+		
+		public long getId() {
+			return id;
+		}
+		
+		public void setId(long id) {
+			this.id = id;
+		}
+	}
+	
+	@Blueprintable
+	public static class Reading {
+		private double value;
+		private float weight;
+		private short sensor;
+		private boolean valid;
+		
+		public Reading(double value, float weight, short sensor, boolean valid) {
+			this.value = value;
+			this.weight = weight;
+			this.sensor = sensor;
+			this.valid = valid;
+		}
+		
+		public double getValue() {
+			return value;
+		}
+		
+		public void setValue(double value) {
+			this.value = value;
+		}
+		
+		public float getWeight() {
+			return weight;
+		}
+		
+		public void setWeight(float weight) {
+			this.weight = weight;
+		}
+		
+		public short getSensor() {
+			return sensor;
+		}
+		
+		public void setSensor(short sensor) {
+			this.sensor = sensor;
+		}
+		
+		public boolean getValid() {
+			return valid;
+		}
+		
+		public void setValid(boolean valid) {
+			this.valid = valid;
+		}
+	}
+	
+	@Blueprintable
+	public static class Message {
+		private String sender;
+		private String content;
+		private int channel;
+		
+		public Message(String sender, String content, int channel) {
+			this.sender = sender;
+			this.content = content;
+			this.channel = channel;
+		}
+		
+		public String getSender() {
+			return sender;
+		}
+		
+		public void setSender(String sender) {
+			this.sender = sender;
+		}
+		
+		public String getContent() {
+			return content;
+		}
+		
+		public void setContent(String content) {
+			this.content = content;
+		}
+		
+		public int getChannel() {
+			return channel;
+		}
+		
+		public void setChannel(int channel) {
+			this.channel = channel;
+		}
+	}
+}
@@ -0,0 +1,217 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 - 2022 vini2003
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.vini2003.blueprint.netty;
+
+import dev.vini2003.blueprint.Blueprint;
+import dev.vini2003.blueprint.annotation.Blueprintable;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CodecBenchmark {
+	private static final int BATCH = 64;
+	
+	@Param({"false", "true"})
+	public boolean compact;
+	
+	private EmbeddedChannel encoder;
+	
+	private EmbeddedChannel decoder;
+	
+	private Update update;
+	
+	private ByteBuf batch;
+	
+	@Setup
+	public void setup() {
+		var parser = compact ? BufParser.COMPACT : BufParser.INSTANCE;
+		
+		Blueprint<Update> blueprint = Blueprint.of(Update.class);
+		
+		encoder = new EmbeddedChannel(new BlueprintEncoder<>(Update.class, blueprint, parser));
+		decoder = new EmbeddedChannel(new BlueprintDecoder<>(blueprint, parser));
+		
+		update = new Update(42, 1_700_000_000_000L, "Steve", 12, 64, -7, List.of(1, 5, 17, 64, 3, 3, 250));
+		
+		batch = Unpooled.buffer();
+		
+		for (var i = 0; i < BATCH; ++i) {
+			encoder.writeOutbound(update);
+			
+			ByteBuf frame = encoder.readOutbound();
+			
+			batch.writeBytes(frame);
+			
+			frame.release();
+		}
+	}
+	
+	@TearDown
+	public void tearDown() {
+		encoder.finishAndReleaseAll();
+		decoder.finishAndReleaseAll();
+		
+		batch.release();
+	}
+	
+	@Benchmark
+	@OperationsPerInvocation(BATCH)
+	public int encode() {
+		for (var i = 0; i < BATCH; ++i) {
+			encoder.writeOutbound(update);
+		}
+		
+		var bytes = 0;
+		
+		ByteBuf frame;
+		
+		while ((frame = encoder.readOutbound()) != null) {
+			bytes += frame.readableBytes();
+			
+			frame.release();
+		}
+		
+		return bytes;
+	}
+	
+	@Benchmark
+	@OperationsPerInvocation(BATCH)
+	public int decode() {
+		decoder.writeInbound(batch.retainedDuplicate());
+		
+		var count = 0;
+		
+		while (decoder.readInbound() != null) {
+			++count;
+		}
+		
+		return count;
+	}
+	
+	@Benchmark
+	@OperationsPerInvocation(BATCH)
+	public int fragmentedDecode() {
+		var input = batch.duplicate();
+		
+		while (input.isReadable()) {
+			decoder.writeInbound(input.readRetainedSlice(Math.min(37, input.readableBytes())));
+		}
+		
+		var count = 0;
+		
+		while (decoder.readInbound() != null) {
+			++count;
+		}
+		
+		return count;
+	}
+	
+	@Blueprintable
+	public static class Update {
+		private int id;
+		private long timestamp;
+		private String name;
+		private int x;
+		private int y;
+		private int z;
+		private List<Integer> inventory;
+		
+		public Update(int id, long timestamp, String name, int x, int y, int z, List<Integer> inventory) {
+			this.id = id;
+			this.timestamp = timestamp;
+			this.name = name;
+			this.x = x;
+			this.y = y;
+			this.z = z;
+			this.inventory = inventory;
+		}
+		
+		public int getId() {
+			return id;
+		}
+		
+		public void setId(int id) {
+			this.id = id;
+		}
+		
+		public long getTimestamp() {
+			return timestamp;
+		}
+		
+		public void setTimestamp(long timestamp) {
+			this.timestamp = timestamp;
+		}
+		
+		public String getName() {
+			return name;
+		}
+		
+		public void setName(String name) {
+			this.name = name;
+		}
+		
+		public int getX() {
+			return x;
+		}
+		
+		public void setX(int x) {
+			this.x = x;
+		}
+		
+		public int getY() {
+			return y;
+		}
+		
+		public void setY(int y) {
+			this.y = y;
+		}
+		
+		public int getZ() {
+			return z;
+		}
+		
+		public void setZ(int z) {
+			this.z = z;
+		}
+		
+		public List<Integer> getInventory() {
+			return inventory;
+		}
+		
+		public void setInventory(List<Integer> inventory) {
+			this.inventory = inventory;
+		}
+	}
+}
@@ -0,0 +1,110 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 - 2022 vini2003
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.vini2003.blueprint.netty;
+
+import dev.vini2003.blueprint.Blueprint;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.ByteToMessageDecoder;
+import io.netty.handler.codec.CorruptedFrameException;
+import io.netty.handler.codec.TooLongFrameException;
+
+import java.util.List;
+
+public class BlueprintDecoder<T> extends ByteToMessageDecoder {
+	public static final int DEFAULT_MAX_FRAME_LENGTH = 2 * 1024 * 1024;
+	
+	private final Blueprint<T> blueprint;
+	
+	private final BufParser parser;
+	
+	private final int maxFrameLength;
+	
+	private long bytesToDiscard;
+	
+	public BlueprintDecoder(Blueprint<T> blueprint) {
+		this(blueprint, BufParser.INSTANCE);
+	}
+	
+	public BlueprintDecoder(Blueprint<T> blueprint, BufParser parser) {
+		this(blueprint, parser, DEFAULT_MAX_FRAME_LENGTH);
+	}
+	
+	public BlueprintDecoder(Blueprint<T> blueprint, BufParser parser, int maxFrameLength) {
+		this.blueprint = blueprint;
+		
+		this.parser = parser;
+		
+		this.maxFrameLength = maxFrameLength;
+	}
+	
+	@Override
+	protected void decode(ChannelHandlerContext ctx, ByteBuf in, List<Object> out) {
+		if (bytesToDiscard > 0L) {
+			var discarded = (int) Math.min(bytesToDiscard, in.readableBytes());
+			
+			in.skipBytes(discarded);
+			
+			bytesToDiscard -= discarded;
+		}
+		
+		while (bytesToDiscard == 0L && in.readableBytes() >= Integer.BYTES) {
+			var length = in.getInt(in.readerIndex());
+			
+			if (length < 0) {
+				in.skipBytes(in.readableBytes());
+				
+				throw new CorruptedFrameException("Negative frame length " + length);
+			}
+			
+			if (length > maxFrameLength) {
+				// Skip the oversized frame, including the parts that have not arrived yet, so the next frame decodes normally.
+				var discarded = (int) Math.min(Integer.BYTES + (long) length, in.readableBytes());
+				
+				in.skipBytes(discarded);
+				
+				bytesToDiscard = Integer.BYTES + (long) length - discarded;
+				
+				throw new TooLongFrameException("Frame length " + length + " exceeds maximum of " + maxFrameLength);
+			}
+			
+			if (in.readableBytes() < Integer.BYTES + length) {
+				return;
+			}
+			
+			in.skipBytes(Integer.BYTES);
+			
+			var frame = in.readSlice(length);
+			
+			var message = blueprint.decode(parser, frame);
+			
+			if (frame.isReadable()) {
+				throw new CorruptedFrameException("Frame of " + length + " bytes had " + frame.readableBytes() + " unread bytes");
+			}
+			
+			out.add(message);
+		}
+	}
+}
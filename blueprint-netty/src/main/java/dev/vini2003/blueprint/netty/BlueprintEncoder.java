@@ -0,0 +1,59 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 - 2022 vini2003
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.vini2003.blueprint.netty;
+
+import dev.vini2003.blueprint.Blueprint;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.MessageToByteEncoder;
+
+public class BlueprintEncoder<T> extends MessageToByteEncoder<T> {
+	private final Blueprint<T> blueprint;
+	
+	private final BufParser parser;
+	
+	public BlueprintEncoder(Class<? extends T> clazz, Blueprint<T> blueprint) {
+		this(clazz, blueprint, BufParser.INSTANCE);
+	}
+	
+	public BlueprintEncoder(Class<? extends T> clazz, Blueprint<T> blueprint, BufParser parser) {
+		super(clazz);
+		
+		this.blueprint = blueprint;
+		
+		this.parser = parser;
+	}
+	
+	@Override
+	protected void encode(ChannelHandlerContext ctx, T msg, ByteBuf out) {
+		var lengthIndex = out.writerIndex();
+		
+		out.writeInt(0);
+		
+		parser.encode(blueprint, msg, out);
+		
+		out.setInt(lengthIndex, out.writerIndex() - lengthIndex - Integer.BYTES);
+	}
+}
@@ -0,0 +1,151 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 - 2022 vini2003
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.vini2003.blueprint.netty;
+
+import dev.vini2003.blueprint.Blueprint;
+import dev.vini2003.blueprint.function.Function2;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.CorruptedFrameException;
+import io.netty.handler.codec.TooLongFrameException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BlueprintCodecTest {
+	private static final int MAX_FRAME_LENGTH = 64;
+	
+	private static final Blueprint<Ping> BLUEPRINT = Blueprint.compound(
+			Blueprint.INTEGER.key("Id").get(Ping::id),
+			Blueprint.STRING.key("Name").get(Ping::name),
+			(Function2<Integer, String, Ping>) Ping::new
+	);
+	
+	@Test
+	public void roundTrip() {
+		var channel = createChannel();
+		
+		assertTrue(channel.writeOutbound(new Ping(1, "first"), new Ping(2, "second")));
+		
+		ByteBuf first = channel.readOutbound();
+		ByteBuf second = channel.readOutbound();
+		
+		assertTrue(channel.writeInbound(first, second));
+		
+		assertEquals(new Ping(1, "first"), channel.readInbound());
+		assertEquals(new Ping(2, "second"), channel.readInbound());
+		assertNull(channel.readInbound());
+		
+		assertFalse(channel.finish());
+	}
+	
+	@Test
+	public void fragmentedFrame() {
+		var channel = createChannel();
+		
+		var frame = frame(new Ping(3, "fragmented"));
+		
+		while (frame.readableBytes() > 1) {
+			assertFalse(channel.writeInbound(frame.readRetainedSlice(1)));
+		}
+		
+		assertTrue(channel.writeInbound(frame));
+		
+		assertEquals(new Ping(3, "fragmented"), channel.readInbound());
+		
+		assertFalse(channel.finish());
+	}
+	
+	@Test
+	public void tooLongFrameIsDiscarded() {
+		var channel = createChannel();
+		
+		var length = MAX_FRAME_LENGTH + 100;
+		
+		var header = Unpooled.buffer();
+		
+		header.writeInt(length);
+		header.writeZero(10);
+		
+		assertThrows(TooLongFrameException.class, () -> channel.writeInbound(header));
+		
+		// The rest of the oversized frame arrives in pieces and must be skipped without raising again.
+		assertFalse(channel.writeInbound(Unpooled.buffer().writeZero(50)));
+		
+		var tail = Unpooled.buffer();
+		
+		tail.writeZero(length - 60);
+		tail.writeBytes(frame(new Ping(4, "after")));
+		
+		assertTrue(channel.writeInbound(tail));
+		
+		assertEquals(new Ping(4, "after"), channel.readInbound());
+		assertNull(channel.readInbound());
+		
+		assertFalse(channel.finish());
+	}
+	
+	@Test
+	public void trailingBytesAreRejected() {
+		var channel = createChannel();
+		
+		var payload = BufParser.INSTANCE.encode(BLUEPRINT, new Ping(5, "trailing"));
+		
+		var frame = Unpooled.buffer();
+		
+		frame.writeInt(payload.readableBytes() + 1);
+		frame.writeBytes(payload);
+		frame.writeByte(0);
+		
+		assertThrows(CorruptedFrameException.class, () -> channel.writeInbound(frame));
+		
+		assertNull(channel.readInbound());
+		
+		channel.finishAndReleaseAll();
+	}
+	
+	@Test
+	public void negativeLengthIsRejected() {
+		var channel = createChannel();
+		
+		assertThrows(CorruptedFrameException.class, () -> channel.writeInbound(Unpooled.buffer().writeInt(-1).writeInt(0)));
+		
+		channel.finishAndReleaseAll();
+	}
+	
+	private static EmbeddedChannel createChannel() {
+		return new EmbeddedChannel(new BlueprintEncoder<>(Ping.class, BLUEPRINT), new BlueprintDecoder<>(BLUEPRINT, BufParser.INSTANCE, MAX_FRAME_LENGTH));
+	}
+	
+	private static ByteBuf frame(Ping ping) {
+		var payload = BufParser.INSTANCE.encode(BLUEPRINT, ping);
+		
+		return Unpooled.buffer().writeInt(payload.readableBytes()).writeBytes(payload);
+	}
+	
+	private record Ping(int id, String name) {
+	}
+}
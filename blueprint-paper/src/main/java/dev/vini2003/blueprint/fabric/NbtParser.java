@@ -67,6 +67,10 @@ public class NbtParser implements Encoder<Tag>, Decoder<Tag> {
 			} else {
 				nbtCompound.put(key, value);
 			}
+		} else {
+			if (object instanceof ListTag nbtList) {
+				nbtList.add(value);
+			}
 		}
 	}
 	
@@ -279,6 +283,57 @@ public class NbtParser implements Encoder<Tag>, Decoder<Tag> {
 		}
 	}
 	
+	@Override
+	public void writeIntArray(@Nullable String key, int[] value, Tag object) {
+		if (object instanceof ListTag nbtList) {
+			nbtList.add(new IntArrayTag(value));
+		} else {
+			if (object instanceof CompoundTag nbtCompound) {
+				if (key == null) {
+					throw new EncoderException("Cannot write non-keyed int array to " + object.getClass().getName());
+				}
+				
+				nbtCompound.putIntArray(key, value);
+			} else {
+				throw new EncoderException("Cannot write int array to " + object.getClass().getName());
+			}
+		}
+	}
+	
+	@Override
+	public void writeLongArray(@Nullable String key, long[] value, Tag object) {
+		if (object instanceof ListTag nbtList) {
+			nbtList.add(new LongArrayTag(value));
+		} else {
+			if (object instanceof CompoundTag nbtCompound) {
+				if (key == null) {
+					throw new EncoderException("Cannot write non-keyed long array to " + object.getClass().getName());
+				}
+				
+				nbtCompound.putLongArray(key, value);
+			} else {
+				throw new EncoderException("Cannot write long array to " + object.getClass().getName());
+			}
+		}
+	}
+	
+	@Override
+	public void writeByteArray(@Nullable String key, byte[] value, Tag object) {
+		if (object instanceof ListTag nbtList) {
+			nbtList.add(new ByteArrayTag(value));
+		} else {
+			if (object instanceof CompoundTag nbtCompound) {
+				if (key == null) {
+					throw new EncoderException("Cannot write non-keyed byte array to " + object.getClass().getName());
+				}
+				
+				nbtCompound.putByteArray(key, value);
+			} else {
+				throw new EncoderException("Cannot write byte array to " + object.getClass().getName());
+			}
+		}
+	}
+	
 	@Override
 	public Tag read(@Nullable String key, Tag object) {
 		if (object instanceof CompoundTag nbtCompound) {
@@ -489,4 +544,55 @@ public class NbtParser implements Encoder<Tag>, Decoder<Tag> {
 			}
 		}
 	}
+	
+	@Override
+	public int[] readIntArray(@Nullable String key, Tag object) {
+		if (object instanceof CompoundTag nbtCompound) {
+			if (key == null) {
+				throw new DecoderException("Cannot read non-keyed int array from " + object.getClass().getName());
+			}
+			
+			return nbtCompound.getIntArray(key);
+		} else {
+			if (object instanceof IntArrayTag nbtIntArray) {
+				return nbtIntArray.getAsIntArray();
+			} else {
+				throw new DecoderException();
+			}
+		}
+	}
+	
+	@Override
+	public long[] readLongArray(@Nullable String key, Tag object) {
+		if (object instanceof CompoundTag nbtCompound) {
+			if (key == null) {
+				throw new DecoderException("Cannot read non-keyed long array from " + object.getClass().getName());
+			}
+			
+			return nbtCompound.getLongArray(key);
+		} else {
+			if (object instanceof LongArrayTag nbtLongArray) {
+				return nbtLongArray.getAsLongArray();
+			} else {
+				throw new DecoderException();
+			}
+		}
+	}
+	
+	@Override
+	public byte[] readByteArray(@Nullable String key, Tag object) {
+		if (object instanceof CompoundTag nbtCompound) {
+			if (key == null) {
+				throw new DecoderException("Cannot read non-keyed byte array from " + object.getClass().getName());
+			}
+			
+			return nbtCompound.getByteArray(key);
+		} else {
+			if (object instanceof ByteArrayTag nbtByteArray) {
+				return nbtByteArray.getAsByteArray();
+			} else {
+				throw new DecoderException();
+			}
+		}
+	}
 }
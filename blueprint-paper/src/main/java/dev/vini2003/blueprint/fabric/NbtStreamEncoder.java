@@ -0,0 +1,449 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 - 2022 vini2003
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.vini2003.blueprint.fabric;
+
+import dev.vini2003.blueprint.Blueprint;
+import dev.vini2003.blueprint.encoding.Encoder;
+import dev.vini2003.blueprint.exception.EncoderException;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class NbtStreamEncoder implements Encoder<NbtStreamEncoder.Frame> {
+	private static final Map<String, byte[]> NAMES = new ConcurrentHashMap<>();
+	
+	private static final byte END_TYPE = 0;
+	private static final byte BYTE_TYPE = 1;
+	private static final byte SHORT_TYPE = 2;
+	private static final byte INT_TYPE = 3;
+	private static final byte LONG_TYPE = 4;
+	private static final byte FLOAT_TYPE = 5;
+	private static final byte DOUBLE_TYPE = 6;
+	private static final byte BYTE_ARRAY_TYPE = 7;
+	private static final byte STRING_TYPE = 8;
+	private static final byte LIST_TYPE = 9;
+	private static final byte COMPOUND_TYPE = 10;
+	private static final byte INT_ARRAY_TYPE = 11;
+	private static final byte LONG_ARRAY_TYPE = 12;
+	
+	private static final int COMPOUND = 0;
+	private static final int LIST = 1;
+	private static final int ENTRY = 2;
+	private static final int KEY = 3;
+	
+	private final ByteBuf buf;
+	
+	private Frame root;
+	
+	public NbtStreamEncoder(ByteBuf buf) {
+		this.buf = buf;
+	}
+	
+	public static <T> void encode(Blueprint<T> blueprint, T value, DataOutput output) throws IOException {
+		var buf = Unpooled.buffer();
+		
+		try {
+			new NbtStreamEncoder(buf).encode(blueprint, value);
+			
+			if (output instanceof OutputStream stream) {
+				buf.readBytes(stream, buf.readableBytes());
+			} else {
+				output.write(buf.array(), buf.arrayOffset() + buf.readerIndex(), buf.readableBytes());
+			}
+		} finally {
+			buf.release();
+		}
+	}
+	
+	public <T> ByteBuf encode(Blueprint<T> blueprint, T value) {
+		blueprint.encode(this, value);
+		
+		finish();
+		
+		return buf;
+	}
+	
+	@Override
+	public Frame createRoot() {
+		if (root != null) {
+			throw new EncoderException("Cannot create more than one root in " + getClass().getSimpleName());
+		}
+		
+		buf.writeByte(COMPOUND_TYPE);
+		buf.writeShort(0);
+		
+		root = new Frame(COMPOUND);
+		
+		return root;
+	}
+	
+	@Override
+	public Frame createCollection(Frame object) {
+		return begin(LIST_TYPE, null, object);
+	}
+	
+	@Override
+	public Frame createMap(Frame object) {
+		return createMap(null, object);
+	}
+	
+	@Override
+	public Frame createMap(@Nullable String key, Frame object) {
+		if (key == null && object.kind == COMPOUND) {
+			return object;
+		}
+		
+		return begin(COMPOUND_TYPE, key, object);
+	}
+	
+	@Override
+	public void write(@Nullable String key, Frame value, Frame object) {
+		if (value != object) {
+			end(value);
+		}
+	}
+	
+	@Override
+	public void writeBoolean(@Nullable String key, boolean value, Frame object) {
+		if (object.kind == KEY) {
+			object.name = value ? "1b" : "0b";
+		} else {
+			begin(BYTE_TYPE, key, object);
+			
+			buf.writeByte(value ? 1 : 0);
+		}
+	}
+	
+	@Override
+	public void writeByte(@Nullable String key, byte value, Frame object) {
+		if (object.kind == KEY) {
+			object.name = value + "b";
+		} else {
+			begin(BYTE_TYPE, key, object);
+			
+			buf.writeByte(value);
+		}
+	}
+	
+	@Override
+	public void writeShort(@Nullable String key, short value, Frame object) {
+		if (object.kind == KEY) {
+			object.name = value + "s";
+		} else {
+			begin(SHORT_TYPE, key, object);
+			
+			buf.writeShort(value);
+		}
+	}
+	
+	@Override
+	public void writeChar(@Nullable String key, char value, Frame object) {
+		writeInt(key, value, object);
+	}
+	
+	@Override
+	public void writeInt(@Nullable String key, int value, Frame object) {
+		if (object.kind == KEY) {
+			object.name = Integer.toString(value);
+		} else {
+			begin(INT_TYPE, key, object);
+			
+			buf.writeInt(value);
+		}
+	}
+	
+	@Override
+	public void writeLong(@Nullable String key, long value, Frame object) {
+		if (object.kind == KEY) {
+			object.name = value + "L";
+		} else {
+			begin(LONG_TYPE, key, object);
+			
+			buf.writeLong(value);
+		}
+	}
+	
+	@Override
+	public void writeFloat(@Nullable String key, float value, Frame object) {
+		if (object.kind == KEY) {
+			object.name = value + "f";
+		} else {
+			begin(FLOAT_TYPE, key, object);
+			
+			buf.writeFloat(value);
+		}
+	}
+	
+	@Override
+	public void writeDouble(@Nullable String key, double value, Frame object) {
+		if (object.kind == KEY) {
+			object.name = value + "d";
+		} else {
+			begin(DOUBLE_TYPE, key, object);
+			
+			buf.writeDouble(value);
+		}
+	}
+	
+	@Override
+	public void writeString(@Nullable String key, String value, Frame object) {
+		if (object.kind == KEY) {
+			object.name = value;
+		} else {
+			begin(STRING_TYPE, key, object);
+			
+			writeUtf(buf, value);
+		}
+	}
+	
+	@Override
+	public <K, V, M extends Map<K, V>> void writeMap(Blueprint<K> keyBlueprint, Blueprint<V> valueBlueprint, @Nullable String key, M value, Frame object) {
+		if (object.kind == KEY) {
+			throw new EncoderException("Cannot write map as an NBT name");
+		}
+		
+		var mapObject = key == null && object.kind == COMPOUND ? object : begin(COMPOUND_TYPE, key, object);
+		
+		var keyFrame = new Frame(KEY);
+		var valueFrame = new Frame(ENTRY);
+		
+		for (var entry : value.entrySet()) {
+			keyFrame.name = null;
+			
+			keyBlueprint.encode(this, null, entry.getKey(), keyFrame);
+			
+			if (keyFrame.name == null) {
+				throw new EncoderException("Cannot write map key " + entry.getKey() + " as an NBT name");
+			}
+			
+			valueFrame.name = keyFrame.name;
+			valueFrame.count = 0;
+			
+			valueBlueprint.encode(this, null, entry.getValue(), valueFrame);
+		}
+		
+		if (mapObject != object) {
+			end(mapObject);
+		}
+	}
+	
+	@Override
+	public <V, C extends Collection<V>> void writeCollection(Blueprint<V> valueBlueprint, @Nullable String key, C value, Frame object) {
+		if (object.kind == COMPOUND && key == null) {
+			throw new EncoderException("Cannot write non-keyed Collection to " + object);
+		}
+		
+		var listObject = begin(LIST_TYPE, key, object);
+		
+		for (var listValue : value) {
+			valueBlueprint.encode(this, null, listValue, listObject);
+		}
+		
+		end(listObject);
+	}
+	
+	@Override
+	public void writeIntArray(@Nullable String key, int[] value, Frame object) {
+		begin(INT_ARRAY_TYPE, key, object);
+		
+		buf.ensureWritable(Integer.BYTES + value.length * Integer.BYTES);
+		buf.writeInt(value.length);
+		
+		for (var element : value) {
+			buf.writeInt(element);
+		}
+	}
+	
+	@Override
+	public void writeLongArray(@Nullable String key, long[] value, Frame object) {
+		begin(LONG_ARRAY_TYPE, key, object);
+		
+		buf.ensureWritable(Integer.BYTES + value.length * Long.BYTES);
+		buf.writeInt(value.length);
+		
+		for (var element : value) {
+			buf.writeLong(element);
+		}
+	}
+	
+	@Override
+	public void writeByteArray(@Nullable String key, byte[] value, Frame object) {
+		begin(BYTE_ARRAY_TYPE, key, object);
+		
+		buf.writeInt(value.length);
+		buf.writeBytes(value);
+	}
+	
+	public void finish() {
+		if (root != null) {
+			end(root);
+			
+			root = null;
+		}
+	}
+	
+	@Nullable
+	private Frame begin(byte type, @Nullable String key, Frame object) {
+		switch (object.kind) {
+			case COMPOUND -> {
+				if (key == null) {
+					throw new EncoderException("Cannot write non-keyed value to " + object);
+				}
+				
+				buf.writeByte(type);
+				buf.writeBytes(NAMES.computeIfAbsent(key, NbtStreamEncoder::encodeName));
+			}
+			case LIST -> {
+				if (object.count == 0) {
+					buf.setByte(object.index - 1, type);
+					
+					object.type = type;
+				} else {
+					if (object.type != type) {
+						throw new EncoderException("Cannot write NBT tag of type " + type + " to " + object + " of type " + object.type);
+					}
+				}
+				
+				object.count++;
+			}
+			case ENTRY -> {
+				if (object.count != 0) {
+					throw new EncoderException("Cannot write more than one value to " + object);
+				}
+				
+				buf.writeByte(type);
+				writeUtf(buf, object.name);
+				
+				object.count++;
+			}
+			default -> throw new EncoderException("Cannot write NBT tag of type " + type + " as an NBT name");
+		}
+		
+		return switch (type) {
+			case LIST_TYPE -> {
+				buf.writeByte(END_TYPE);
+				
+				var frame = new Frame(LIST);
+				frame.index = buf.writerIndex();
+				
+				buf.writeInt(0);
+				
+				yield frame;
+			}
+			case COMPOUND_TYPE -> new Frame(COMPOUND);
+			default -> null;
+		};
+	}
+	
+	private void end(Frame frame) {
+		if (frame.kind == LIST) {
+			buf.setInt(frame.index, frame.count);
+		} else {
+			buf.writeByte(END_TYPE);
+		}
+	}
+	
+	private static byte[] encodeName(String name) {
+		var buf = Unpooled.buffer(name.length() + 2);
+		
+		writeUtf(buf, name);
+		
+		var bytes = new byte[buf.readableBytes()];
+		buf.readBytes(bytes);
+		
+		return bytes;
+	}
+	
+	private static void writeUtf(ByteBuf buf, String value) {
+		var length = 0;
+		
+		for (var i = 0; i < value.length(); ++i) {
+			var c = value.charAt(i);
+			
+			if (c >= 0x0001 && c <= 0x007F) {
+				length += 1;
+			} else if (c <= 0x07FF) {
+				length += 2;
+			} else {
+				length += 3;
+			}
+		}
+		
+		if (length > 65535) {
+			throw new EncoderException("Cannot write NBT string of " + length + " bytes");
+		}
+		
+		buf.ensureWritable(length + 2);
+		buf.writeShort(length);
+		
+		for (var i = 0; i < value.length(); ++i) {
+			var c = value.charAt(i);
+			
+			if (c >= 0x0001 && c <= 0x007F) {
+				buf.writeByte(c);
+			} else if (c <= 0x07FF) {
+				buf.writeByte(0xC0 | ((c >> 6) & 0x1F));
+				buf.writeByte(0x80 | (c & 0x3F));
+			} else {
+				buf.writeByte(0xE0 | ((c >> 12) & 0x0F));
+				buf.writeByte(0x80 | ((c >> 6) & 0x3F));
+				buf.writeByte(0x80 | (c & 0x3F));
+			}
+		}
+	}
+	
+	public static class Frame {
+		private final int kind;
+		
+		private String name;
+		
+		private byte type;
+		
+		private int index;
+		
+		private int count;
+		
+		private Frame(int kind) {
+			this.kind = kind;
+		}
+		
+		@Override
+		public String toString() {
+			return switch (kind) {
+				case COMPOUND -> "NBT compound";
+				case LIST -> "NBT list";
+				case ENTRY -> "NBT map entry";
+				default -> "NBT name";
+			};
+		}
+	}
+}
@@ -0,0 +1,395 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 - 2022 vini2003
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.vini2003.blueprint.processor;
+
+import org.jetbrains.annotations.Nullable;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@SupportedAnnotationTypes(BlueprintProcessor.BLUEPRINTABLE)
+public class BlueprintProcessor extends AbstractProcessor {
+	public static final String BLUEPRINTABLE = "dev.vini2003.blueprint.annotation.Blueprintable";
+	
+	public static final String DEFAULT_BLUEPRINT = "dev.vini2003.blueprint.annotation.DefaultBlueprint";
+	
+	public static final String GENERATED_SUFFIX = "_Blueprint";
+	
+	private static final String BLUEPRINT = "dev.vini2003.blueprint.Blueprint";
+	
+	private static final Map<TypeKind, String[]> PRIMITIVE_BLUEPRINTS = Map.of(
+			TypeKind.BOOLEAN, new String[] { "PRIMITIVE_BOOLEAN", "Boolean" },
+			TypeKind.BYTE, new String[] { "PRIMITIVE_BYTE", "Byte" },
+			TypeKind.SHORT, new String[] { "PRIMITIVE_SHORT", "Short" },
+			TypeKind.CHAR, new String[] { "PRIMITIVE_CHAR", "Char" },
+			TypeKind.INT, new String[] { "PRIMITIVE_INT", "Int" },
+			TypeKind.LONG, new String[] { "PRIMITIVE_LONG", "Long" },
+			TypeKind.FLOAT, new String[] { "PRIMITIVE_FLOAT", "Float" },
+			TypeKind.DOUBLE, new String[] { "PRIMITIVE_DOUBLE", "Double" }
+	);
+	
+	private static final Map<String, String> BOXED_BLUEPRINTS = Map.of(
+			"java.lang.Boolean", "BOOLEAN",
+			"java.lang.Byte", "BYTE",
+			"java.lang.Short", "SHORT",
+			"java.lang.Character", "CHARACTER",
+			"java.lang.Integer", "INTEGER",
+			"java.lang.Long", "LONG",
+			"java.lang.Float", "FLOAT",
+			"java.lang.Double", "DOUBLE",
+			"java.lang.String", "STRING"
+	);
+	
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+	
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnvironment) {
+		for (var annotation : annotations) {
+			for (var element : roundEnvironment.getElementsAnnotatedWith(annotation)) {
+				if (element.getKind() != ElementKind.CLASS) {
+					continue;
+				}
+				
+				var clazz = (TypeElement) element;
+				
+				if (!isAccessible(clazz)) {
+					processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING, "Class '" + clazz.getQualifiedName() + "' is not accessible from its package, its blueprint will be created at runtime", clazz);
+					
+					continue;
+				}
+				
+				try {
+					generate(clazz);
+				} catch (IOException e) {
+					processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Could not write blueprint for class '" + clazz.getQualifiedName() + "': " + e.getMessage(), clazz);
+				}
+			}
+		}
+		
+		return false;
+	}
+	
+	private void generate(TypeElement clazz) throws IOException {
+		var elements = processingEnv.getElementUtils();
+		var types = processingEnv.getTypeUtils();
+		
+		var packageName = elements.getPackageOf(clazz).getQualifiedName().toString();
+		var binaryName = elements.getBinaryName(clazz).toString();
+		
+		var generatedName = (packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1)) + GENERATED_SUFFIX;
+		
+		var clazzName = types.erasure(clazz.asType()).toString();
+		
+		var fieldBlueprints = new ArrayList<String>();
+		var fieldTypes = new ArrayList<TypeMirror>();
+		var fieldKeys = new ArrayList<String>();
+		
+		for (var field : ElementFilter.fieldsIn(clazz.getEnclosedElements())) {
+			if (field.getModifiers().contains(Modifier.STATIC)) {
+				continue;
+			}
+			
+			var fieldType = types.erasure(field.asType());
+			
+			var getter = findGetter(clazz, field, fieldType);
+			var setter = findSetter(clazz, field, fieldType);
+			
+			if (getter == null || setter == null) {
+				continue;
+			}
+			
+			var getterReference = clazzName + "::" + getter.getSimpleName();
+			var setterReference = clazzName + "::" + setter.getSimpleName();
+			
+			var primitiveBlueprint = PRIMITIVE_BLUEPRINTS.get(fieldType.getKind());
+			
+			if (primitiveBlueprint != null) {
+				fieldBlueprints.add(BLUEPRINT + "." + primitiveBlueprint[0] + ".get" + primitiveBlueprint[1] + "(" + getterReference + ").set" + primitiveBlueprint[1] + "(" + setterReference + ")");
+			} else {
+				var fieldBlueprint = createFieldBlueprint(fieldType);
+				
+				// Whether the runtime accepts this field depends on what has been registered by then.
+				if (fieldBlueprint == null) {
+					processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE, "Field '" + field.getSimpleName() + "' of class '" + clazz.getQualifiedName() + "' has type '" + fieldType + "' with no known blueprint, its blueprint will be created at runtime", field);
+					
+					return;
+				}
+				
+				// Matches the runtime derivation, which writes fields leading back to their own class with a presence flag.
+				if (reaches(fieldType, clazz, new HashSet<>())) {
+					fieldBlueprint = "new dev.vini2003.blueprint.NullableBlueprint(" + fieldBlueprint + ")";
+				}
+				
+				var fieldTypeName = fieldType.toString();
+				
+				fieldBlueprints.add("new dev.vini2003.blueprint.WrappedBlueprint((dev.vini2003.blueprint.function.Function1<" + clazzName + ", " + fieldTypeName + ">) " + getterReference + ", (dev.vini2003.blueprint.consumer.Consumer2<" + clazzName + ", " + fieldTypeName + ">) " + setterReference + ", null, null, " + fieldBlueprint + ")");
+			}
+			
+			fieldTypes.add(fieldType);
+			fieldKeys.add(field.getSimpleName().toString());
+		}
+		
+		if (!hasConstructor(clazz, fieldTypes)) {
+			processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING, "Class '" + clazz.getQualifiedName() + "' did not have constructor matching fields " + fieldTypes + ", its blueprint will be created at runtime", clazz);
+			
+			return;
+		}
+		
+		var constructorArguments = new ArrayList<String>();
+		
+		for (var i = 0; i < fieldTypes.size(); ++i) {
+			constructorArguments.add("(" + fieldTypes.get(i) + ") values[" + i + "]");
+		}
+		
+		var quotedFieldKeys = new ArrayList<String>();
+		
+		for (var fieldKey : fieldKeys) {
+			quotedFieldKeys.add("\"" + fieldKey + "\"");
+		}
+		
+		var file = processingEnv.getFiler().createSourceFile(packageName.isEmpty() ? generatedName : packageName + "." + generatedName, clazz);
+		
+		try (var writer = file.openWriter()) {
+			if (!packageName.isEmpty()) {
+				writer.write("package " + packageName + ";\n\n");
+			}
+			
+			writer.write("@SuppressWarnings({ \"rawtypes\", \"unchecked\" })\n");
+			writer.write("public final class " + generatedName + " extends dev.vini2003.blueprint.compiled.CompiledCompoundBlueprint<" + clazzName + "> {\n");
+			writer.write("\tpublic " + generatedName + "() {\n");
+			writer.write("\t\tsuper(null, null, null, null, new " + BLUEPRINT + "[] {\n");
+			writer.write("\t\t\t\t" + String.join(",\n\t\t\t\t", fieldBlueprints) + "\n");
+			writer.write("\t\t}, new String[] { " + String.join(", ", quotedFieldKeys) + " }, (values) -> new " + clazzName + "(" + String.join(", ", constructorArguments) + "), false);\n");
+			writer.write("\t}\n");
+			writer.write("}\n");
+		}
+	}
+	
+	@Nullable
+	private String createFieldBlueprint(TypeMirror fieldType) {
+		var types = processingEnv.getTypeUtils();
+		var elements = processingEnv.getElementUtils();
+		
+		var fieldTypeName = fieldType.toString();
+		
+		var boxedBlueprint = BOXED_BLUEPRINTS.get(fieldTypeName);
+		
+		if (boxedBlueprint != null) {
+			return BLUEPRINT + "." + boxedBlueprint;
+		}
+		
+		if (types.isAssignable(fieldType, types.erasure(elements.getTypeElement("java.util.Optional").asType()))) {
+			return "new dev.vini2003.blueprint.generic.GenericOptionalBlueprint()";
+		} else if (types.isAssignable(fieldType, types.erasure(elements.getTypeElement("java.util.Map").asType()))) {
+			return "new dev.vini2003.blueprint.generic.GenericMapBlueprint(" + (hasDefaultConstructor(fieldType) ? fieldTypeName + "::new" : "dev.vini2003.blueprint.util.MapUtil.findDefaultConstructor(" + fieldTypeName + ".class)") + ")";
+		} else if (types.isAssignable(fieldType, types.erasure(elements.getTypeElement("java.util.Collection").asType()))) {
+			return "new dev.vini2003.blueprint.generic.GenericCollectionBlueprint(" + (hasDefaultConstructor(fieldType) ? fieldTypeName + "::new" : "dev.vini2003.blueprint.util.CollectionUtil.findDefaultConstructor(" + fieldTypeName + ".class)") + ")";
+		} else if (fieldType.getKind() == TypeKind.ARRAY || hasBlueprint(fieldType)) {
+			return "new dev.vini2003.blueprint.DeferredBlueprint(" + fieldTypeName + ".class)";
+		} else {
+			return null;
+		}
+	}
+	
+	private boolean hasBlueprint(TypeMirror type) {
+		if (!(type instanceof DeclaredType declaredType) || !(declaredType.asElement() instanceof TypeElement element)) {
+			return false;
+		}
+		
+		if (hasAnnotation(element, BLUEPRINTABLE)) {
+			return true;
+		}
+		
+		for (var field : ElementFilter.fieldsIn(element.getEnclosedElements())) {
+			if (field.getModifiers().contains(Modifier.STATIC) && hasAnnotation(field, DEFAULT_BLUEPRINT)) {
+				return true;
+			}
+		}
+		
+		return false;
+	}
+	
+	private boolean reaches(TypeMirror type, TypeElement target, Set<TypeElement> visited) {
+		if (!(type instanceof DeclaredType declaredType) || !(declaredType.asElement() instanceof TypeElement element)) {
+			return false;
+		}
+		
+		if (element.equals(target)) {
+			return true;
+		}
+		
+		if (!hasAnnotation(element, BLUEPRINTABLE) || !visited.add(element)) {
+			return false;
+		}
+		
+		for (var field : ElementFilter.fieldsIn(element.getEnclosedElements())) {
+			if (!field.getModifiers().contains(Modifier.STATIC) && reaches(field.asType(), target, visited)) {
+				return true;
+			}
+		}
+		
+		return false;
+	}
+	
+	private boolean hasAnnotation(Element element, String annotation) {
+		for (var annotationMirror : element.getAnnotationMirrors()) {
+			if (((TypeElement) annotationMirror.getAnnotationType().asElement()).getQualifiedName().contentEquals(annotation)) {
+				return true;
+			}
+		}
+		
+		return false;
+	}
+	
+	private ExecutableElement findGetter(TypeElement clazz, VariableElement field, TypeMirror fieldType) {
+		var types = processingEnv.getTypeUtils();
+		
+		var fieldName = field.getSimpleName().toString();
+		
+		var getterName = "get" + fieldName.substring(0, 1).toUpperCase() + fieldName.substring(1);
+		
+		for (var method : findMethods(clazz, getterName)) {
+			if (method.getParameters().isEmpty() && types.isAssignable(fieldType, types.erasure(method.getReturnType()))) {
+				return method;
+			}
+		}
+		
+		return null;
+	}
+	
+	private ExecutableElement findSetter(TypeElement clazz, VariableElement field, TypeMirror fieldType) {
+		var types = processingEnv.getTypeUtils();
+		
+		var fieldName = field.getSimpleName().toString();
+		
+		var setterName = "set" + fieldName.substring(0, 1).toUpperCase() + fieldName.substring(1);
+		
+		for (var method : findMethods(clazz, setterName)) {
+			if (method.getParameters().size() == 1 && types.isSameType(fieldType, types.erasure(method.getParameters().get(0).asType()))) {
+				return method;
+			}
+		}
+		
+		return null;
+	}
+	
+	private List<ExecutableElement> findMethods(TypeElement clazz, String name) {
+		var methods = new ArrayList<ExecutableElement>();
+		
+		for (var method : ElementFilter.methodsIn(processingEnv.getElementUtils().getAllMembers(clazz))) {
+			if (method.getSimpleName().contentEquals(name) && method.getModifiers().contains(Modifier.PUBLIC) && !method.getModifiers().contains(Modifier.STATIC)) {
+				methods.add(method);
+			}
+		}
+		
+		return methods;
+	}
+	
+	private boolean hasConstructor(TypeElement clazz, List<TypeMirror> fieldTypes) {
+		var types = processingEnv.getTypeUtils();
+		
+		for (var constructor : ElementFilter.constructorsIn(clazz.getEnclosedElements())) {
+			if (constructor.getModifiers().contains(Modifier.PRIVATE) || constructor.getParameters().size() != fieldTypes.size()) {
+				continue;
+			}
+			
+			var matches = true;
+			
+			for (var i = 0; i < fieldTypes.size(); ++i) {
+				if (!types.isSameType(fieldTypes.get(i), types.erasure(constructor.getParameters().get(i).asType()))) {
+					matches = false;
+					
+					break;
+				}
+			}
+			
+			if (matches) {
+				return true;
+			}
+		}
+		
+		return false;
+	}
+	
+	private boolean hasDefaultConstructor(TypeMirror type) {
+		if (!(type instanceof DeclaredType declaredType) || !(declaredType.asElement() instanceof TypeElement element)) {
+			return false;
+		}
+		
+		if (element.getKind() != ElementKind.CLASS || element.getModifiers().contains(Modifier.ABSTRACT)) {
+			return false;
+		}
+		
+		for (var constructor : ElementFilter.constructorsIn(element.getEnclosedElements())) {
+			if (constructor.getParameters().isEmpty() && constructor.getModifiers().contains(Modifier.PUBLIC)) {
+				return true;
+			}
+		}
+		
+		return false;
+	}
+	
+	private boolean isAccessible(TypeElement clazz) {
+		var element = clazz;
+		
+		while (true) {
+			if (element.getModifiers().contains(Modifier.PRIVATE)) {
+				return false;
+			}
+			
+			if (!(element.getEnclosingElement() instanceof TypeElement enclosingElement)) {
+				return true;
+			}
+			
+			if (!element.getModifiers().contains(Modifier.STATIC) && element.getKind() == ElementKind.CLASS) {
+				return false;
+			}
+			
+			element = enclosingElement;
+		}
+	}
+}
@@ -0,0 +1,202 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 - 2022 vini2003
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.vini2003.blueprint.processor;
+
+import dev.vini2003.blueprint.Blueprint;
+import dev.vini2003.blueprint.buffer.ByteBufferParser;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaFileObject;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BlueprintProcessorTest {
+	private static final String OWNER = """
+			package sample;
+			
+			import dev.vini2003.blueprint.annotation.Blueprintable;
+			
+			import java.util.List;
+			
+			@Blueprintable
+			public class Owner {
+				private int id;
+				private String name;
+				private List<Integer> scores;
+				private Pet pet;
+				private int[] codes;
+				private String[] tags;
+				
+				public Owner(int id, String name, List<Integer> scores, Pet pet, int[] codes, String[] tags) {
+					this.id = id;
+					this.name = name;
+					this.scores = scores;
+					this.pet = pet;
+					this.codes = codes;
+					this.tags = tags;
+				}
+				
+				public int getId() { return id; }
+				public void setId(int id) { this.id = id; }
+				public String getName() { return name; }
+				public void setName(String name) { this.name = name; }
+				public List<Integer> getScores() { return scores; }
+				public void setScores(List<Integer> scores) { this.scores = scores; }
+				public Pet getPet() { return pet; }
+				public void setPet(Pet pet) { this.pet = pet; }
+				public int[] getCodes() { return codes; }
+				public void setCodes(int[] codes) { this.codes = codes; }
+				public String[] getTags() { return tags; }
+				public void setTags(String[] tags) { this.tags = tags; }
+			}
+			""";
+	
+	private static final String PET = """
+			package sample;
+			
+			import dev.vini2003.blueprint.annotation.Blueprintable;
+			
+			@Blueprintable
+			public class Pet {
+				private String kind;
+				private double weight;
+				
+				public Pet(String kind, double weight) {
+					this.kind = kind;
+					this.weight = weight;
+				}
+				
+				public String getKind() { return kind; }
+				public void setKind(String kind) { this.kind = kind; }
+				public double getWeight() { return weight; }
+				public void setWeight(double weight) { this.weight = weight; }
+			}
+			""";
+	
+	@Test
+	@SuppressWarnings("unchecked")
+	public void generatedBlueprintMatchesReflective(@TempDir Path directory) throws Exception {
+		var sources = directory.resolve("src/sample");
+		
+		Files.createDirectories(sources);
+		
+		Files.writeString(sources.resolve("Owner.java"), OWNER);
+		Files.writeString(sources.resolve("Pet.java"), PET);
+		
+		var generated = compile(directory, "generated", true);
+		var reflective = compile(directory, "reflective", false);
+		
+		assertTrue(Files.exists(directory.resolve("generated-sources/sample/Owner_Blueprint.java")));
+		assertTrue(Files.exists(directory.resolve("generated-sources/sample/Pet_Blueprint.java")));
+		
+		try (var generatedLoader = new URLClassLoader(new URL[] { generated.toUri().toURL() }, getClass().getClassLoader());
+			 var reflectiveLoader = new URLClassLoader(new URL[] { reflective.toUri().toURL() }, getClass().getClassLoader())) {
+			var generatedOwner = generatedLoader.loadClass("sample.Owner");
+			var reflectiveOwner = reflectiveLoader.loadClass("sample.Owner");
+			
+			Blueprint<Object> generatedBlueprint = Blueprint.of(generatedOwner);
+			Blueprint<Object> reflectiveBlueprint = Blueprint.of(reflectiveOwner);
+			
+			assertEquals("sample.Owner_Blueprint", generatedBlueprint.getClass().getName());
+			assertNotEquals("sample.Owner_Blueprint", reflectiveBlueprint.getClass().getName());
+			
+			var generatedBytes = bytes(ByteBufferParser.INSTANCE.encode(generatedBlueprint, createOwner(generatedLoader)));
+			var reflectiveBytes = bytes(ByteBufferParser.INSTANCE.encode(reflectiveBlueprint, createOwner(reflectiveLoader)));
+			
+			assertArrayEquals(reflectiveBytes, generatedBytes);
+			
+			var decoded = ByteBufferParser.INSTANCE.decode(generatedBlueprint, ByteBuffer.wrap(reflectiveBytes));
+			
+			assertArrayEquals(reflectiveBytes, bytes(ByteBufferParser.INSTANCE.encode(generatedBlueprint, decoded)));
+		}
+	}
+	
+	private static Path compile(Path directory, String name, boolean process) throws IOException {
+		var compiler = ToolProvider.getSystemJavaCompiler();
+		
+		var output = directory.resolve(name);
+		
+		Files.createDirectories(output);
+		
+		var options = new ArrayList<>(List.of("-classpath", System.getProperty("java.class.path"), "-d", output.toString()));
+		
+		if (process) {
+			var generatedSources = directory.resolve("generated-sources");
+			
+			Files.createDirectories(generatedSources);
+			
+			options.addAll(List.of("-s", generatedSources.toString()));
+		} else {
+			options.add("-proc:none");
+		}
+		
+		var diagnostics = new DiagnosticCollector<JavaFileObject>();
+		
+		try (var fileManager = compiler.getStandardFileManager(diagnostics, null, null);
+			 var files = Files.list(directory.resolve("src/sample"))) {
+			var task = compiler.getTask(null, fileManager, diagnostics, options, null, fileManager.getJavaFileObjectsFromPaths(files.toList()));
+			
+			if (process) {
+				task.setProcessors(List.of(new BlueprintProcessor()));
+			}
+			
+			var success = task.call();
+			
+			for (var diagnostic : diagnostics.getDiagnostics()) {
+				assertNotEquals(Diagnostic.Kind.ERROR, diagnostic.getKind(), diagnostic.toString());
+			}
+			
+			assertTrue(success);
+		}
+		
+		return output;
+	}
+	
+	private static Object createOwner(ClassLoader loader) throws ReflectiveOperationException {
+		var pet = loader.loadClass("sample.Pet").getConstructor(String.class, double.class).newInstance("cat", 4.5);
+		
+		return loader.loadClass("sample.Owner").getConstructor(int.class, String.class, List.class, pet.getClass(), int[].class, String[].class).newInstance(7, "owner", List.of(3, 1, 2), pet, new int[] { 4, 5 }, new String[] { "a", "b" });
+	}
+	
+	private static byte[] bytes(ByteBuffer buffer) {
+		var bytes = new byte[buffer.remaining()];
+		
+		buffer.get(bytes);
+		
+		return bytes;
+	}
+}
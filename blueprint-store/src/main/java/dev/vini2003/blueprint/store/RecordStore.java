@@ -0,0 +1,370 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 - 2022 vini2003
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.vini2003.blueprint.store;
+
+import dev.vini2003.blueprint.Blueprint;
+import dev.vini2003.blueprint.buffer.ByteBufferParser;
+import dev.vini2003.blueprint.consumer.Consumer1;
+import dev.vini2003.blueprint.exception.BlueprintException;
+import dev.vini2003.blueprint.exception.DecoderException;
+import dev.vini2003.blueprint.exception.EncoderException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32C;
+
+public class RecordStore<T> implements AutoCloseable {
+	public static final int DEFAULT_SEGMENT_SIZE = 64 * 1024 * 1024;
+	
+	private static final int MAGIC = 0x42505253;
+	
+	private static final int HEADER_SIZE = 2 * Integer.BYTES;
+	private static final int COUNT_OFFSET = Integer.BYTES;
+	
+	private static final int RECORD_HEADER_SIZE = 2 * Integer.BYTES;
+	
+	private static final String LOCK_FILE = "store.lock";
+	
+	private static final Set<Path> OPEN_DIRECTORIES = ConcurrentHashMap.newKeySet();
+	
+	private final Path directory;
+	
+	private final Path realDirectory;
+	
+	private final Blueprint<T> blueprint;
+	
+	private final ByteBufferParser parser;
+	
+	private final int segmentSize;
+	
+	private final FileChannel lockChannel;
+	
+	private final CRC32C checksum = new CRC32C();
+	
+	private boolean truncated;
+	
+	private volatile Segment[] segments = new Segment[0];
+	
+	private volatile long[] index = new long[1024];
+	
+	private volatile int size;
+	
+	private volatile boolean closed;
+	
+	private ByteBuffer scratch = ByteBuffer.allocate(ByteBufferParser.DEFAULT_INITIAL_CAPACITY);
+	
+	public RecordStore(Path directory, Blueprint<T> blueprint) throws IOException {
+		this(directory, blueprint, ByteBufferParser.INSTANCE, DEFAULT_SEGMENT_SIZE);
+	}
+	
+	public RecordStore(Path directory, Blueprint<T> blueprint, ByteBufferParser parser, int segmentSize) throws IOException {
+		if (segmentSize <= HEADER_SIZE + RECORD_HEADER_SIZE) {
+			throw new BlueprintException("Segment size " + segmentSize + " is too small");
+		}
+		
+		this.directory = directory;
+		
+		this.blueprint = blueprint;
+		
+		this.parser = parser;
+		
+		this.segmentSize = segmentSize;
+		
+		Files.createDirectories(directory);
+		
+		this.realDirectory = directory.toRealPath();
+		
+		// File locks are held per process and closing any channel on the file releases them, so stores in this process are tracked here instead.
+		if (!OPEN_DIRECTORIES.add(realDirectory)) {
+			throw new BlueprintException("Record store at " + directory + " is already open");
+		}
+		
+		try {
+			this.lockChannel = FileChannel.open(directory.resolve(LOCK_FILE), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+		} catch (IOException | RuntimeException e) {
+			OPEN_DIRECTORIES.remove(realDirectory);
+			
+			throw e;
+		}
+		
+		try {
+			FileLock lock;
+			
+			try {
+				lock = lockChannel.tryLock();
+			} catch (OverlappingFileLockException e) {
+				lock = null;
+			}
+			
+			if (lock == null) {
+				throw new BlueprintException("Record store at " + directory + " is already open");
+			}
+			
+			var id = 0;
+			
+			do {
+				load(openSegment(id));
+			} while (Files.exists(getSegmentPath(++id)));
+		} catch (IOException | RuntimeException e) {
+			for (var segment : segments) {
+				segment.channel.close();
+			}
+			
+			lockChannel.close();
+			
+			OPEN_DIRECTORIES.remove(realDirectory);
+			
+			throw e;
+		}
+	}
+	
+	public Path getDirectory() {
+		return directory;
+	}
+	
+	public int size() {
+		return size;
+	}
+	
+	public synchronized long append(T value) throws IOException {
+		ensureOpen();
+		
+		scratch.clear();
+		scratch = parser.encode(blueprint, value, scratch);
+		scratch.flip();
+		
+		var length = scratch.remaining();
+		
+		var segmentId = segments.length - 1;
+		var segment = segments[segmentId];
+		
+		if ((long) segment.position + RECORD_HEADER_SIZE + length > segment.buffer.capacity()) {
+			if (HEADER_SIZE + RECORD_HEADER_SIZE + length > segmentSize) {
+				throw new EncoderException("Record of " + length + " bytes exceeds segment size " + segmentSize);
+			}
+			
+			segment = openSegment(++segmentId);
+		}
+		
+		var offset = segment.position;
+		
+		checksum.reset();
+		checksum.update(scratch.duplicate());
+		
+		segment.buffer.putInt(offset, length);
+		segment.buffer.putInt(offset + Integer.BYTES, (int) checksum.getValue());
+		segment.buffer.put(offset + RECORD_HEADER_SIZE, scratch, scratch.position(), length);
+		
+		segment.position = offset + RECORD_HEADER_SIZE + length;
+		segment.buffer.putInt(COUNT_OFFSET, ++segment.count);
+		
+		return publish(segmentId, offset);
+	}
+	
+	public T get(long id) {
+		ensureOpen();
+		
+		if (id < 0 || id >= size) {
+			throw new BlueprintException("Record " + id + " does not exist in store with " + size + " records");
+		}
+		
+		var entry = index[(int) id];
+		
+		var buffer = segments[(int) (entry >>> 32)].buffer;
+		
+		var offset = (int) entry;
+		
+		return parser.decode(blueprint, buffer.slice(offset + RECORD_HEADER_SIZE, buffer.getInt(offset)));
+	}
+	
+	public void forEach(Consumer1<T> consumer) {
+		var count = size;
+		
+		for (var id = 0; id < count; ++id) {
+			consumer.accept(get(id));
+		}
+	}
+	
+	public synchronized void flush() {
+		for (var segment : segments) {
+			segment.buffer.force();
+		}
+	}
+	
+	@Override
+	public synchronized void close() throws IOException {
+		if (closed) {
+			return;
+		}
+		
+		flush();
+		
+		closed = true;
+		
+		try {
+			for (var segment : segments) {
+				segment.channel.close();
+			}
+			
+			lockChannel.close();
+		} finally {
+			OPEN_DIRECTORIES.remove(realDirectory);
+		}
+	}
+	
+	private void ensureOpen() {
+		if (closed) {
+			throw new BlueprintException("Record store at " + directory + " is closed");
+		}
+	}
+	
+	private Path getSegmentPath(int id) {
+		return directory.resolve(String.format("%08d.segment", id));
+	}
+	
+	private Segment openSegment(int id) throws IOException {
+		var channel = FileChannel.open(getSegmentPath(id), StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+		
+		try {
+			var length = channel.size() == 0L ? segmentSize : channel.size();
+			
+			if (length > Integer.MAX_VALUE) {
+				throw new DecoderException("Segment " + id + " of " + length + " bytes is too large");
+			}
+			
+			var segment = new Segment(channel, channel.map(FileChannel.MapMode.READ_WRITE, 0L, length));
+			
+			var magic = segment.buffer.getInt(0);
+			
+			if (magic == 0) {
+				segment.buffer.putInt(0, MAGIC);
+			} else if (magic != MAGIC) {
+				throw new DecoderException("File " + getSegmentPath(id) + " is not a record segment");
+			}
+			
+			var current = Arrays.copyOf(segments, id + 1);
+			
+			current[id] = segment;
+			
+			segments = current;
+			
+			return segment;
+		} catch (IOException | RuntimeException e) {
+			channel.close();
+			
+			throw e;
+		}
+	}
+	
+	private void load(Segment segment) {
+		var buffer = segment.buffer;
+		
+		var segmentId = segments.length - 1;
+		
+		var count = truncated ? 0 : buffer.getInt(COUNT_OFFSET);
+		
+		// The count is written after each record, so a crash can leave it ahead of the data, keep only the records that check out.
+		for (var i = 0; i < count; ++i) {
+			var offset = segment.position;
+			
+			if (!isValid(buffer, offset)) {
+				truncated = true;
+				
+				break;
+			}
+			
+			segment.position = offset + RECORD_HEADER_SIZE + buffer.getInt(offset);
+			segment.count = i + 1;
+			
+			publish(segmentId, offset);
+		}
+		
+		if (segment.count != buffer.getInt(COUNT_OFFSET)) {
+			buffer.putInt(COUNT_OFFSET, segment.count);
+			buffer.force();
+		}
+	}
+	
+	private boolean isValid(ByteBuffer buffer, int offset) {
+		if ((long) offset + RECORD_HEADER_SIZE > buffer.capacity()) {
+			return false;
+		}
+		
+		var length = buffer.getInt(offset);
+		
+		if (length < 0 || (long) offset + RECORD_HEADER_SIZE + length > buffer.capacity()) {
+			return false;
+		}
+		
+		checksum.reset();
+		checksum.update(buffer.slice(offset + RECORD_HEADER_SIZE, length));
+		
+		return (int) checksum.getValue() == buffer.getInt(offset + Integer.BYTES);
+	}
+	
+	private long publish(int segmentId, int offset) {
+		var id = size;
+		
+		var current = index;
+		
+		if (id == current.length) {
+			current = Arrays.copyOf(current, id << 1);
+			
+			index = current;
+		}
+		
+		current[id] = ((long) segmentId << 32) | offset;
+		
+		size = id + 1;
+		
+		return id;
+	}
+	
+	private static class Segment {
+		private final FileChannel channel;
+		
+		private final MappedByteBuffer buffer;
+		
+		private int position = HEADER_SIZE;
+		
+		private int count;
+		
+		private Segment(FileChannel channel, MappedByteBuffer buffer) {
+			this.channel = channel;
+			
+			this.buffer = buffer;
+		}
+	}
+}
@@ -0,0 +1,145 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 - 2022 vini2003
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.vini2003.blueprint.store;
+
+import dev.vini2003.blueprint.Blueprint;
+import dev.vini2003.blueprint.buffer.ByteBufferParser;
+import dev.vini2003.blueprint.exception.BlueprintException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RecordStoreTest {
+	private static final int SEGMENT_SIZE = 4096;
+	
+	@TempDir
+	public Path directory;
+	
+	@Test
+	public void reopenLoadsAllRecords() throws IOException {
+		try (var store = open()) {
+			for (var i = 0; i < 1000; ++i) {
+				assertEquals(i, store.append("Record " + i));
+			}
+		}
+		
+		try (var store = open()) {
+			assertEquals(1000, store.size());
+			assertEquals("Record 0", store.get(0));
+			assertEquals("Record 999", store.get(999));
+		}
+	}
+	
+	@Test
+	public void reopenTruncatesAtFirstCorruptRecord() throws IOException {
+		long offset;
+		
+		try (var store = open()) {
+			store.append("First");
+			store.append("Second");
+			store.append("Third");
+			
+			offset = 8 + (8 + encodedLength("First")) + 8;
+		}
+		
+		// Damage the payload of the second record, as a crash before its page was written back would.
+		try (var channel = FileChannel.open(directory.resolve("00000000.segment"), StandardOpenOption.WRITE)) {
+			channel.write(ByteBuffer.wrap(new byte[] { 0x7F, 0x7F }), offset);
+		}
+		
+		try (var store = open()) {
+			assertEquals(1, store.size());
+			assertEquals("First", store.get(0));
+			
+			assertEquals(1, store.append("Fourth"));
+		}
+		
+		try (var store = open()) {
+			assertEquals(2, store.size());
+			assertEquals("Fourth", store.get(1));
+		}
+	}
+	
+	@Test
+	public void secondInstanceCannotOpen() throws IOException {
+		try (var store = open()) {
+			assertThrows(BlueprintException.class, this::open);
+		}
+		
+		try (var store = open()) {
+			assertEquals(0, store.size());
+		}
+	}
+	
+	@Test
+	public void failedSecondOpenKeepsOtherProcessesOut() throws Exception {
+		try (var store = open()) {
+			assertThrows(BlueprintException.class, this::open);
+			
+			assertEquals(Opener.REFUSED, openInChildProcess());
+		}
+		
+		assertEquals(Opener.OPENED, openInChildProcess());
+	}
+	
+	private int openInChildProcess() throws IOException, InterruptedException {
+		var java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+		
+		var process = new ProcessBuilder(java, "-cp", System.getProperty("java.class.path"), Opener.class.getName(), directory.toString())
+				.redirectErrorStream(true)
+				.redirectOutput(ProcessBuilder.Redirect.DISCARD)
+				.start();
+		
+		return process.waitFor();
+	}
+	
+	private RecordStore<String> open() throws IOException {
+		return new RecordStore<>(directory, Blueprint.STRING, ByteBufferParser.INSTANCE, SEGMENT_SIZE);
+	}
+	
+	private static int encodedLength(String value) {
+		return ByteBufferParser.INSTANCE.encode(Blueprint.STRING, value).remaining();
+	}
+	
+	public static class Opener {
+		private static final int OPENED = 0;
+		private static final int REFUSED = 2;
+		
+		public static void main(String[] args) throws IOException {
+			try (var store = new RecordStore<>(Path.of(args[0]), Blueprint.STRING, ByteBufferParser.INSTANCE, SEGMENT_SIZE)) {
+				System.exit(OPENED);
+			} catch (BlueprintException e) {
+				System.exit(REFUSED);
+			}
+		}
+	}
+}
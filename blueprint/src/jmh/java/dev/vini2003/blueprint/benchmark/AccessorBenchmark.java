@@ -0,0 +1,96 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 - 2022 vini2003
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.vini2003.blueprint.benchmark;
+
+import dev.vini2003.blueprint.consumer.Consumer2;
+import dev.vini2003.blueprint.function.Function1;
+import dev.vini2003.blueprint.util.AccessorUtil;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AccessorBenchmark {
+	private Person person;
+	
+	private Method getterMethod;
+	private Method setterMethod;
+	
+	private Function1<Person, String> getter;
+	private Consumer2<Person, String> setter;
+	
+	@Setup
+	public void setup() throws NoSuchMethodException {
+		person = new Person("Steve");
+		
+		getterMethod = Person.class.getMethod("getName");
+		setterMethod = Person.class.getMethod("setName", String.class);
+		
+		getter = AccessorUtil.createGetter(getterMethod);
+		setter = AccessorUtil.createSetter(setterMethod);
+	}
+	
+	@Benchmark
+	public Object getReflective() throws ReflectiveOperationException {
+		return getterMethod.invoke(person);
+	}
+	
+	@Benchmark
+	public Object getGenerated() {
+		return getter.apply(person);
+	}
+	
+	@Benchmark
+	public void setReflective() throws ReflectiveOperationException {
+		setterMethod.invoke(person, "Alex");
+	}
+	
+	@Benchmark
+	public void setGenerated() {
+		setter.accept(person, "Alex");
+	}
+	
+	public static class Person {
+		private String name;
+		
+		public Person(String name) {
+			this.name = name;
+		}
+		
+		public String getName() {
+			return name;
+		}
+		
+		public void setName(String name) {
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,95 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 - 2022 vini2003
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.vini2003.blueprint.benchmark;
+
+import dev.vini2003.blueprint.Blueprint;
+import dev.vini2003.blueprint.buffer.ByteBufferParser;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ArrayBenchmark {
+	private static final Blueprint<Integer[]> BOXED = Blueprint.INTEGER.array(Integer[]::new);
+	
+	@Param({"16", "4096"})
+	public int length;
+	
+	private final ByteBufferParser parser = ByteBufferParser.INSTANCE;
+	
+	private int[] values;
+	private Integer[] boxedValues;
+	
+	private ByteBuffer encoded;
+	private ByteBuffer boxedEncoded;
+	
+	private ByteBuffer buffer;
+	
+	@Setup
+	public void setup() {
+		values = new int[length];
+		boxedValues = new Integer[length];
+		
+		for (var i = 0; i < length; ++i) {
+			values[i] = i * 31;
+			boxedValues[i] = i * 31;
+		}
+		
+		encoded = parser.encode(Blueprint.INT_ARRAY, values);
+		boxedEncoded = parser.encode(BOXED, boxedValues);
+		
+		buffer = ByteBuffer.allocate(length * Integer.BYTES + 64);
+	}
+	
+	@Benchmark
+	public ByteBuffer encodeBulk() {
+		buffer.clear();
+		
+		return parser.encode(Blueprint.INT_ARRAY, values, buffer);
+	}
+	
+	@Benchmark
+	public ByteBuffer encodeBoxed() {
+		buffer.clear();
+		
+		return parser.encode(BOXED, boxedValues, buffer);
+	}
+	
+	@Benchmark
+	public int[] decodeBulk() {
+		return parser.decode(Blueprint.INT_ARRAY, encoded.duplicate());
+	}
+	
+	@Benchmark
+	public Integer[] decodeBoxed() {
+		return parser.decode(BOXED, boxedEncoded.duplicate());
+	}
+}
@@ -26,8 +26,14 @@ package dev.vini2003.blueprint;
 
 import dev.vini2003.blueprint.annotation.Blueprintable;
 import dev.vini2003.blueprint.annotation.DefaultBlueprint;
+import dev.vini2003.blueprint.array.*;
+import dev.vini2003.blueprint.compiled.BoundBlueprint;
+import dev.vini2003.blueprint.compiled.CompiledCompoundBlueprint;
+import dev.vini2003.blueprint.compiled.DeltaBlueprint;
+import dev.vini2003.blueprint.compiled.LazyCompoundBlueprint;
+import dev.vini2003.blueprint.compiled.ProjectedBlueprint;
 import dev.vini2003.blueprint.compound.*;
-import dev.vini2003.blueprint.consumer.Consumer2;
+import dev.vini2003.blueprint.consumer.*;
 import dev.vini2003.blueprint.encoding.Decoder;
 import dev.vini2003.blueprint.encoding.Encoder;
 import dev.vini2003.blueprint.exception.BlueprintException;
@@ -37,18 +43,40 @@ import dev.vini2003.blueprint.generic.GenericCollectionBlueprint;
 import dev.vini2003.blueprint.generic.GenericMapBlueprint;
 import dev.vini2003.blueprint.generic.GenericOptionalBlueprint;
 import dev.vini2003.blueprint.pair.Pair;
+import dev.vini2003.blueprint.primitive.*;
+import dev.vini2003.blueprint.util.AccessorUtil;
 import dev.vini2003.blueprint.util.CollectionUtil;
-import dev.vini2003.blueprint.util.FunctionUtil;
 import dev.vini2003.blueprint.util.MapUtil;
 import dev.vini2003.blueprint.util.ReflectionUtil;
 import org.jetbrains.annotations.Nullable;
 
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntFunction;
 import java.util.function.Predicate;
 
 public abstract class Blueprint<T> {
-	private static final Map<Class<?>, Blueprint<?>> BLUEPRINTS = new HashMap<>();
+	private static final Map<Class<?>, Blueprint<?>> BLUEPRINTS = new ConcurrentHashMap<>();
+	
+	private static final ClassValue<Blueprint<?>> DERIVED_BLUEPRINTS = new ClassValue<>() {
+		@Override
+		protected Blueprint<?> computeValue(Class<?> clazz) {
+			var derivingClazzes = DERIVING_CLAZZES.get();
+			
+			derivingClazzes.add(clazz);
+			
+			try {
+				return derive(clazz);
+			} finally {
+				derivingClazzes.remove(clazz);
+			}
+		}
+	};
+	
+	private static final ThreadLocal<Set<Class<?>>> DERIVING_CLAZZES = ThreadLocal.withInitial(HashSet::new);
 	
 	protected Function1<?, T> getter;
 	protected Consumer2<?, ?> setter;
@@ -88,12 +116,51 @@ public abstract class Blueprint<T> {
 		return new MappedBlueprint<>(getter, setter, setterPredicate, key, this, decodeMapper, encodeMapper);
 	}
 	
+	public Blueprint<T> compile() {
+		return this;
+	}
+	
+	public <F, P extends Encoder<F> & Decoder<F>> BoundBlueprint<T, F> bind(P parser) {
+		return new BoundBlueprint<>(compile(), parser, parser);
+	}
+	
+	public LazyCompoundBlueprint<T> lazy() {
+		if (compile() instanceof CompiledCompoundBlueprint<T> compound) {
+			return new LazyCompoundBlueprint<>(compound);
+		}
+		
+		throw new BlueprintException("Blueprint " + this + " is not a compound, cannot decode lazily");
+	}
+	
+	public ProjectedBlueprint<T> project(String... keys) {
+		return new ProjectedBlueprint<>(lazy().getCompound(), keys);
+	}
+	
+	public DeltaBlueprint<T> delta() {
+		return new DeltaBlueprint<>(lazy().getCompound());
+	}
+	
+	@SuppressWarnings("unchecked")
+	protected <U, B extends Blueprint<U>> B inherit(B blueprint) {
+		blueprint.getter = (Function1<?, U>) getter;
+		blueprint.setter = setter;
+		blueprint.setterPredicate = setterPredicate;
+		blueprint.key = key;
+		
+		return blueprint;
+	}
+	
 	public Blueprint<List<T>> list() {
 		return new CollectionBlueprint<>(this, ArrayList::new);
 	}
 	
+	@SuppressWarnings("unchecked")
 	public Blueprint<T[]> array() {
-			return new CollectionBlueprint<>(this, ArrayList::new).xmap(list -> (T[]) list.toArray(), array -> (ArrayList<T>) Arrays.asList(array));
+		return new ObjectArrayBlueprint<>(this, (size) -> (T[]) new Object[size]);
+	}
+	
+	public Blueprint<T[]> array(IntFunction<T[]> generator) {
+		return new ObjectArrayBlueprint<>(this, generator);
 	}
 	
 	public Blueprint<Set<T>> setter() {
@@ -108,106 +175,59 @@ public abstract class Blueprint<T> {
 		return new OptionalBlueprint<>(this);
 	}
 	
-	public static Blueprint<Boolean> BOOLEAN = new Blueprint<>() {
-		@Override
-		public <F, I> Boolean decode(Decoder<F> decoder, @Nullable String key, F object, I instance) {
-			return setter(decoder.readBoolean(key, object), instance);
-		}
-		
-		@Override
-		public <F, V> void encode(Encoder<F> encoder, @Nullable String key, V value, F object) {
-			encoder.writeBoolean(key, getter(value), object);
-		}
-	};
+	public static final BooleanBlueprint PRIMITIVE_BOOLEAN = new BooleanBlueprint();
 	
-	public static Blueprint<Byte> BYTE = new Blueprint<>() {
-		@Override
-		public <F, I> Byte decode(Decoder<F> decoder, @Nullable String key, F object, I instance) {
-			return setter(decoder.readByte(key, object), instance);
-		}
-		
-		@Override
-		public <F, V> void encode(Encoder<F> encoder, @Nullable String key, V value, F object) {
-			encoder.writeByte(key, getter(value), object);
-		}
-	};
+	public static final ByteBlueprint PRIMITIVE_BYTE = new ByteBlueprint();
 	
-	public static Blueprint<Short> SHORT = new Blueprint<>() {
-		@Override
-		public <F, I> Short decode(Decoder<F> decoder, @Nullable String key, F object, I instance) {
-			return setter(decoder.readShort(key, object), instance);
-		}
-		
-		@Override
-		public <F, V> void encode(Encoder<F> encoder, @Nullable String key, V value, F object) {
-			encoder.writeShort(key, getter(value), object);
-		}
-	};
+	public static final ShortBlueprint PRIMITIVE_SHORT = new ShortBlueprint();
 	
-	public static Blueprint<Character> CHARACTER = new Blueprint<>() {
-		@Override
-		public <F, I> Character decode(Decoder<F> decoder, @Nullable String key, F object, I instance) {
-			return setter(decoder.readChar(key, object), instance);
-		}
-		
-		@Override
-		public <F, V> void encode(Encoder<F> encoder, @Nullable String key, V value, F object) {
-			encoder.writeChar(key, getter(value), object);
-		}
-	};
+	public static final CharBlueprint PRIMITIVE_CHAR = new CharBlueprint();
 	
-	public static Blueprint<Integer> INTEGER = new Blueprint<>() {
-		@Override
-		public <F, I> Integer decode(Decoder<F> decoder, @Nullable String key, F object, I instance) {
-			return setter(decoder.readInt(key, object), instance);
-		}
-		
-		@Override
-		public <F, V> void encode(Encoder<F> encoder, @Nullable String key, V value, F object) {
-			encoder.writeInt(key, getter(value), object);
-		}
-	};
+	public static final IntBlueprint PRIMITIVE_INT = new IntBlueprint();
 	
-	public static Blueprint<Long> LONG = new Blueprint<>() {
-		@Override
-		public <F, I> Long decode(Decoder<F> decoder, @Nullable String key, F object, I instance) {
-			return setter(decoder.readLong(key, object), instance);
-		}
-		
-		@Override
-		public <F, V> void encode(Encoder<F> encoder, @Nullable String key, V value, F object) {
-			encoder.writeLong(key, getter(value), object);
-		}
-	};
+	public static final LongBlueprint PRIMITIVE_LONG = new LongBlueprint();
 	
-	public static Blueprint<Float> FLOAT = new Blueprint<>() {
-		@Override
-		public <F, I> Float decode(Decoder<F> decoder, @Nullable String key, F object, I instance) {
-			return setter(decoder.readFloat(key, object), instance);
-		}
-		
-		@Override
-		public <F, V> void encode(Encoder<F> encoder, @Nullable String key, V value, F object) {
-			encoder.writeFloat(key, getter(value), object);
-		}
-	};
+	public static final FloatBlueprint PRIMITIVE_FLOAT = new FloatBlueprint();
 	
-	public static Blueprint<Double> DOUBLE = new Blueprint<>() {
-		@Override
-		public <F, I> Double decode(Decoder<F> decoder, @Nullable String key, F object, I instance) {
-			return setter(decoder.readDouble(key, object), instance);
-		}
-		
-		@Override
-		public <F, V> void encode(Encoder<F> encoder, @Nullable String key, V value, F object) {
-			encoder.writeDouble(key, getter(value), object);
-		}
-	};
+	public static final DoubleBlueprint PRIMITIVE_DOUBLE = new DoubleBlueprint();
+	
+	public static Blueprint<Boolean> BOOLEAN = PRIMITIVE_BOOLEAN;
+	
+	public static Blueprint<Byte> BYTE = PRIMITIVE_BYTE;
+	
+	public static Blueprint<Short> SHORT = PRIMITIVE_SHORT;
+	
+	public static Blueprint<Character> CHARACTER = PRIMITIVE_CHAR;
+	
+	public static Blueprint<Integer> INTEGER = PRIMITIVE_INT;
+	
+	public static Blueprint<Long> LONG = PRIMITIVE_LONG;
+	
+	public static Blueprint<Float> FLOAT = PRIMITIVE_FLOAT;
+	
+	public static Blueprint<Double> DOUBLE = PRIMITIVE_DOUBLE;
+	
+	public static IntArrayBlueprint INT_ARRAY = new IntArrayBlueprint();
+	
+	public static LongArrayBlueprint LONG_ARRAY = new LongArrayBlueprint();
+	
+	public static FloatArrayBlueprint FLOAT_ARRAY = new FloatArrayBlueprint();
+	
+	public static DoubleArrayBlueprint DOUBLE_ARRAY = new DoubleArrayBlueprint();
+	
+	public static ByteArrayBlueprint BYTE_ARRAY = new ByteArrayBlueprint();
+	
+	public static ShortArrayBlueprint SHORT_ARRAY = new ShortArrayBlueprint();
 	
 	public static Blueprint<String> STRING = new Blueprint<>() {
 		@Override
 		public <F, I> String decode(Decoder<F> decoder, @Nullable String key, F object, I instance) {
-			return setter(decoder.readString(key, object), instance);
+			return decoder.readString(key, object);
+		}
+		
+		@Override
+		public <F> void skip(Decoder<F> decoder, @Nullable String key, F object) {
+			decoder.skipString(key, object);
 		}
 		
 		@Override
@@ -250,6 +270,10 @@ public abstract class Blueprint<T> {
 	
 	public abstract <F, I> T decode(Decoder<F> decoder, @Nullable String key, F object, I instance);
 	
+	public <F> void skip(Decoder<F> decoder, @Nullable String key, F object) {
+		decode(decoder, key, object, null);
+	}
+	
 	@SuppressWarnings("unchecked")
 	protected <V> T getter(V value) {
 		return getter == null ? (T) value : ((Function1<V, T>) getter).apply(value);
@@ -258,12 +282,21 @@ public abstract class Blueprint<T> {
 	@SuppressWarnings("unchecked")
 	public <T, I> T setter(T value, I instance) {
 		if (instance != null && setter != null) {
-			((Consumer2<I, T>) setter).accept((I) getter(instance), value);
+			((Consumer2<I, T>) setter).accept(instance, value);
 		}
 		
 		return value;
 	}
 	
+	@Nullable
+	public <I> Object instanceOf(@Nullable I instance) {
+		return instance == null ? null : getter(instance);
+	}
+	
+	public <V> T extract(V value) {
+		return getter(value);
+	}
+	
 	public String getKey() {
 		return key;
 	}
@@ -276,9 +309,15 @@ public abstract class Blueprint<T> {
 	@SuppressWarnings("unchecked")
 	public static <T> Blueprint<T> register(Class<?> clazz, Blueprint<?> blueprint) {
 		BLUEPRINTS.put(clazz, blueprint);
+		DERIVED_BLUEPRINTS.remove(clazz);
+		
 		return (Blueprint<T>) blueprint;
 	}
 	
+	public static boolean isRegistered(Class<?> clazz) {
+		return BLUEPRINTS.containsKey(clazz);
+	}
+	
 	@Nullable
 	@SuppressWarnings("rawtypes")
 	public static Blueprint of(Object t) {
@@ -286,35 +325,69 @@ public abstract class Blueprint<T> {
 	}
 	
 	@Nullable
-	@SuppressWarnings({"rawtypes", "unchecked"})
-	private static Blueprint ofClass(Class clazz) {
-		if (BLUEPRINTS.containsKey(clazz)) {
-			return BLUEPRINTS.get(clazz);
+	@SuppressWarnings("rawtypes")
+	private static Blueprint ofClass(Class<?> clazz) {
+		var blueprint = BLUEPRINTS.get(clazz);
+		
+		if (blueprint != null) {
+			return blueprint;
+		}
+		
+		return DERIVED_BLUEPRINTS.get(clazz);
+	}
+	
+	@Nullable
+	@SuppressWarnings("rawtypes")
+	private static Blueprint ofField(Class<?> clazz) {
+		if (!BLUEPRINTS.containsKey(clazz) && DERIVING_CLAZZES.get().contains(clazz)) {
+			return new DeferredBlueprint<>(clazz);
 		}
 		
+		return ofClass(clazz);
+	}
+	
+	@Nullable
+	@SuppressWarnings({"rawtypes", "unchecked"})
+	private static Blueprint derive(Class clazz) {
 		if (Optional.class.isAssignableFrom(clazz)) {
-			return register(clazz, new GenericOptionalBlueprint());
+			return new GenericOptionalBlueprint();
 		} else if (Map.class.isAssignableFrom(clazz)) {
-			var wrappedMapConstructor = FunctionUtil.<Map>wrapConstructor(ReflectionUtil.findConstructor(clazz));
+			var wrappedMapConstructor = AccessorUtil.<Map>createConstructor(ReflectionUtil.findConstructor(clazz));
 			
 			if (wrappedMapConstructor == null) {
 				throw new BlueprintException("Map did not have no-argument constructor in class '" + clazz.getName() + "', cannot create blueprint");
 			}
 			
-			return register(clazz, new GenericMapBlueprint(wrappedMapConstructor));
+			return new GenericMapBlueprint(wrappedMapConstructor);
 		} else if (Collection.class.isAssignableFrom(clazz)) {
-			var wrappedCollectionConstructor = FunctionUtil.<Collection>wrapConstructor(ReflectionUtil.findConstructor(clazz));
+			var wrappedCollectionConstructor = AccessorUtil.<Collection>createConstructor(ReflectionUtil.findConstructor(clazz));
 			
 			if (wrappedCollectionConstructor == null) {
 				throw new BlueprintException("Collection did not have no-argument constructor in class '" + clazz.getName() + "', cannot create blueprint");
 			}
 			
-			return register(clazz, new GenericCollectionBlueprint(wrappedCollectionConstructor));
+			return new GenericCollectionBlueprint(wrappedCollectionConstructor);
 		} else if (clazz.isArray()) {
+			var componentClazz = clazz.getComponentType();
+			
+			if (!componentClazz.isPrimitive() && Modifier.isFinal(componentClazz.getModifiers())) {
+				var componentBlueprint = ofField(componentClazz);
+				
+				if (componentBlueprint != null) {
+					return new ObjectArrayBlueprint<>(componentBlueprint, (size) -> (Object[]) Array.newInstance(componentClazz, size));
+				}
+			}
+			
 			var wrappedCollectionConstructor = CollectionUtil.findDefaultConstructor(List.class);
 			
-			return register(clazz, new GenericCollectionBlueprint(wrappedCollectionConstructor).xmap(Collection::toArray, Arrays::asList));
+			return new GenericCollectionBlueprint(wrappedCollectionConstructor).xmap(Collection::toArray, Arrays::asList);
 		} else if (clazz.isAnnotationPresent(Blueprintable.class)) {
+			var generatedBlueprint = ofGenerated(clazz);
+			
+			if (generatedBlueprint != null) {
+				return generatedBlueprint;
+			}
+			
 			var fields = clazz.getDeclaredFields();
 			
 			var fieldBlueprints = new ArrayList<Blueprint<?>>();
@@ -327,7 +400,7 @@ public abstract class Blueprint<T> {
 				if (Optional.class.isAssignableFrom(field.getType())) {
 					fieldBlueprint = new GenericOptionalBlueprint();
 				} else if (Map.class.isAssignableFrom(field.getType())) {
-					var wrappedMapConstructor = FunctionUtil.<Map>wrapConstructor(ReflectionUtil.findConstructor(field.getType()));
+					var wrappedMapConstructor = AccessorUtil.<Map>createConstructor(ReflectionUtil.findConstructor(field.getType()));
 					
 					if (wrappedMapConstructor == null) {
 						wrappedMapConstructor = MapUtil.findDefaultConstructor(field.getType());
@@ -339,7 +412,7 @@ public abstract class Blueprint<T> {
 					
 					fieldBlueprint = new GenericMapBlueprint(wrappedMapConstructor);
 				} else if (Collection.class.isAssignableFrom(field.getType())) {
-					var wrappedCollectionConstructor = FunctionUtil.<Collection>wrapConstructor(ReflectionUtil.findConstructor(field.getType()));
+					var wrappedCollectionConstructor = AccessorUtil.<Collection>createConstructor(ReflectionUtil.findConstructor(field.getType()));
 					
 					if (wrappedCollectionConstructor == null) {
 						wrappedCollectionConstructor = CollectionUtil.findDefaultConstructor(field.getType());
@@ -351,26 +424,34 @@ public abstract class Blueprint<T> {
 				
 					fieldBlueprint = new GenericCollectionBlueprint(wrappedCollectionConstructor);
 				} else {
-					fieldBlueprint = ofClass(field.getType());
+					fieldBlueprint = ofField(field.getType());
+					
+					// A field leading back to its own class can only end in null, so it is written with a presence flag.
+					if (fieldBlueprint != null && reaches(field.getType(), clazz, new HashSet<>())) {
+						fieldBlueprint = new NullableBlueprint<>(fieldBlueprint);
+					}
 				}
 				
 				if (fieldBlueprint == null) {
 					continue;
 				}
 				
-				var wrappedFieldGetter = FunctionUtil.wrapGetter(ReflectionUtil.findGetter(clazz, field.getType(), field.getName()));
-				var wrappedFieldSetter = FunctionUtil.wrapSetter(ReflectionUtil.findSetter(clazz, field.getType(), field.getName()));
+				var fieldGetterMethod = ReflectionUtil.findGetter(clazz, field.getType(), field.getName());
+				var fieldSetterMethod = ReflectionUtil.findSetter(clazz, field.getType(), field.getName());
 				
-				if (wrappedFieldGetter != null) {
-					fieldBlueprint = fieldBlueprint.get(wrappedFieldGetter);
+				if (fieldGetterMethod == null || fieldSetterMethod == null) {
+					continue;
 				}
 				
-				if (wrappedFieldSetter != null) {
-					fieldBlueprint = fieldBlueprint.set(wrappedFieldSetter);
-				}
+				var primitiveFieldBlueprint = field.getType().isPrimitive() ? ofPrimitive(fieldBlueprint, fieldGetterMethod, fieldSetterMethod) : null;
 				
-				if (wrappedFieldGetter == null || wrappedFieldSetter == null) {
-					continue;
+				if (primitiveFieldBlueprint != null) {
+					fieldBlueprint = primitiveFieldBlueprint;
+				} else {
+					var fieldGetter = AccessorUtil.createGetter(fieldGetterMethod);
+					var fieldSetter = AccessorUtil.createSetter(fieldSetterMethod);
+					
+					fieldBlueprint = new WrappedBlueprint<>(fieldGetter, fieldSetter, null, null, fieldBlueprint);
 				}
 				
 				fieldBlueprints.add(fieldBlueprint);
@@ -379,14 +460,14 @@ public abstract class Blueprint<T> {
 				fieldKeys.add(field.getName());
 			}
 			
-			return register(clazz, new GenericCompoundBlueprint(clazz, fieldBlueprints.toArray(Blueprint[]::new), fieldTypes.toArray(Class[]::new), fieldKeys.toArray(String[]::new)));
+			return new GenericCompoundBlueprint(clazz, fieldBlueprints.toArray(Blueprint[]::new), fieldTypes.toArray(Class[]::new), fieldKeys.toArray(String[]::new));
 		} else {
 			var fields = clazz.getDeclaredFields();
 			
 			for (var field : fields) {
 				if (Modifier.isStatic(field.getModifiers()) && field.isAnnotationPresent(DefaultBlueprint.class)) {
 					try {
-						return register(clazz, (Blueprint) field.get(null));
+						return (Blueprint) field.get(null);
 					} catch (Exception e) {
 						return null;
 					}
@@ -397,6 +478,89 @@ public abstract class Blueprint<T> {
 		}
 	}
 	
+	private static boolean reaches(Class<?> clazz, Class<?> target, Set<Class<?>> visited) {
+		if (clazz == target) {
+			return true;
+		}
+		
+		if (!clazz.isAnnotationPresent(Blueprintable.class) || !visited.add(clazz)) {
+			return false;
+		}
+		
+		for (var field : clazz.getDeclaredFields()) {
+			if (!Modifier.isStatic(field.getModifiers()) && reaches(field.getType(), target, visited)) {
+				return true;
+			}
+		}
+		
+		return false;
+	}
+	
+	@Nullable
+	private static Blueprint<?> ofGenerated(Class<?> clazz) {
+		try {
+			var generatedClazz = Class.forName(clazz.getName() + "_Blueprint", true, clazz.getClassLoader());
+			
+			if (!Blueprint.class.isAssignableFrom(generatedClazz)) {
+				return null;
+			}
+			
+			return (Blueprint<?>) generatedClazz.getConstructor().newInstance();
+		} catch (ClassNotFoundException | LinkageError e) {
+			return null;
+		} catch (ReflectiveOperationException e) {
+			throw new BlueprintException("Could not instantiate generated blueprint for class '" + clazz.getName() + "'", e);
+		}
+	}
+	
+	@Nullable
+	@SuppressWarnings("unchecked")
+	private static Blueprint<?> ofPrimitive(Blueprint<?> blueprint, Method getterMethod, Method setterMethod) {
+		if (blueprint instanceof BooleanBlueprint booleanBlueprint) {
+			ToBooleanFunction1<Object> getter = AccessorUtil.createGetter(getterMethod, ToBooleanFunction1.class);
+			ObjBooleanConsumer2<Object> setter = AccessorUtil.createSetter(setterMethod, ObjBooleanConsumer2.class);
+			
+			return getter != null && setter != null ? booleanBlueprint.getBoolean(getter).setBoolean(setter) : null;
+		} else if (blueprint instanceof ByteBlueprint byteBlueprint) {
+			ToByteFunction1<Object> getter = AccessorUtil.createGetter(getterMethod, ToByteFunction1.class);
+			ObjByteConsumer2<Object> setter = AccessorUtil.createSetter(setterMethod, ObjByteConsumer2.class);
+			
+			return getter != null && setter != null ? byteBlueprint.getByte(getter).setByte(setter) : null;
+		} else if (blueprint instanceof ShortBlueprint shortBlueprint) {
+			ToShortFunction1<Object> getter = AccessorUtil.createGetter(getterMethod, ToShortFunction1.class);
+			ObjShortConsumer2<Object> setter = AccessorUtil.createSetter(setterMethod, ObjShortConsumer2.class);
+			
+			return getter != null && setter != null ? shortBlueprint.getShort(getter).setShort(setter) : null;
+		} else if (blueprint instanceof CharBlueprint charBlueprint) {
+			ToCharFunction1<Object> getter = AccessorUtil.createGetter(getterMethod, ToCharFunction1.class);
+			ObjCharConsumer2<Object> setter = AccessorUtil.createSetter(setterMethod, ObjCharConsumer2.class);
+			
+			return getter != null && setter != null ? charBlueprint.getChar(getter).setChar(setter) : null;
+		} else if (blueprint instanceof IntBlueprint intBlueprint) {
+			ToIntFunction1<Object> getter = AccessorUtil.createGetter(getterMethod, ToIntFunction1.class);
+			ObjIntConsumer2<Object> setter = AccessorUtil.createSetter(setterMethod, ObjIntConsumer2.class);
+			
+			return getter != null && setter != null ? intBlueprint.getInt(getter).setInt(setter) : null;
+		} else if (blueprint instanceof LongBlueprint longBlueprint) {
+			ToLongFunction1<Object> getter = AccessorUtil.createGetter(getterMethod, ToLongFunction1.class);
+			ObjLongConsumer2<Object> setter = AccessorUtil.createSetter(setterMethod, ObjLongConsumer2.class);
+			
+			return getter != null && setter != null ? longBlueprint.getLong(getter).setLong(setter) : null;
+		} else if (blueprint instanceof FloatBlueprint floatBlueprint) {
+			ToFloatFunction1<Object> getter = AccessorUtil.createGetter(getterMethod, ToFloatFunction1.class);
+			ObjFloatConsumer2<Object> setter = AccessorUtil.createSetter(setterMethod, ObjFloatConsumer2.class);
+			
+			return getter != null && setter != null ? floatBlueprint.getFloat(getter).setFloat(setter) : null;
+		} else if (blueprint instanceof DoubleBlueprint doubleBlueprint) {
+			ToDoubleFunction1<Object> getter = AccessorUtil.createGetter(getterMethod, ToDoubleFunction1.class);
+			ObjDoubleConsumer2<Object> setter = AccessorUtil.createSetter(setterMethod, ObjDoubleConsumer2.class);
+			
+			return getter != null && setter != null ? doubleBlueprint.getDouble(getter).setDouble(setter) : null;
+		} else {
+			return null;
+		}
+	}
+	
 	public static <T1, T2> Blueprint<Map<T1, T2>> map(Blueprint<T1> keyBlueprint, Blueprint<T2> valueBlueprint) {
 		return new MapBlueprint<>(keyBlueprint, valueBlueprint, HashMap::new);
 	}
@@ -406,7 +570,11 @@ public abstract class Blueprint<T> {
 	}
 	
 	public static <T> Blueprint<T[]> array(Blueprint<T> valueBlueprint) {
-		return new CollectionBlueprint<>(valueBlueprint, ArrayList::new).xmap(list -> (T[]) list.toArray(), array -> (ArrayList<T>) Arrays.asList(array));
+		return valueBlueprint.array();
+	}
+	
+	public static <T> Blueprint<T[]> array(Blueprint<T> valueBlueprint, IntFunction<T[]> generator) {
+		return new ObjectArrayBlueprint<>(valueBlueprint, generator);
 	}
 	
 	public static <T> Blueprint<Set<T>> setter(Blueprint<T> valueBlueprint) {
@@ -539,5 +707,11 @@ public abstract class Blueprint<T> {
 		register(Double.class, Blueprint.DOUBLE);
 		register(double.class, Blueprint.DOUBLE);
 		register(String.class, Blueprint.STRING);
+		register(int[].class, Blueprint.INT_ARRAY);
+		register(long[].class, Blueprint.LONG_ARRAY);
+		register(float[].class, Blueprint.FLOAT_ARRAY);
+		register(double[].class, Blueprint.DOUBLE_ARRAY);
+		register(byte[].class, Blueprint.BYTE_ARRAY);
+		register(short[].class, Blueprint.SHORT_ARRAY);
 	}
 }
\ No newline at end of file
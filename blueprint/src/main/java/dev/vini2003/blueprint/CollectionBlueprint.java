@@ -48,7 +48,12 @@ public class CollectionBlueprint<T, N extends Blueprint<T>, C extends Collection
 		
 		decoder.readCollection(n, key, object, collection::add);
 		
-		return setter(collection, instance);
+		return collection;
+	}
+	
+	@Override
+	public <F> void skip(Decoder<F> decoder, @Nullable String key, F object) {
+		decoder.skipCollection(n, key, object);
 	}
 	
 	@Override
@@ -56,6 +61,19 @@ public class CollectionBlueprint<T, N extends Blueprint<T>, C extends Collection
 		encoder.writeCollection(n, key, getter(value), object);
 	}
 	
+	public N getValueBlueprint() {
+		return n;
+	}
+	
+	public Supplier1<C> getCollectionSupplier() {
+		return collection;
+	}
+	
+	@Override
+	public Blueprint<C> compile() {
+		return inherit(new CollectionBlueprint<>(n.compile(), collection));
+	}
+	
 	@Override
 	public String toString() {
 		return "ListBlueprint[" + (key == null ? "None" : key) + ", " + n + "]";
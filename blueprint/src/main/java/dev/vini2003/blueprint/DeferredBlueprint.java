@@ -0,0 +1,72 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 - 2022 vini2003
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.vini2003.blueprint;
+
+import dev.vini2003.blueprint.encoding.Decoder;
+import dev.vini2003.blueprint.encoding.Encoder;
+import dev.vini2003.blueprint.exception.BlueprintException;
+import org.jetbrains.annotations.Nullable;
+
+public class DeferredBlueprint<T> extends Blueprint<T> {
+	private final Class<?> clazz;
+	
+	private Blueprint<T> blueprint;
+	
+	public DeferredBlueprint(Class<?> clazz) {
+		this.clazz = clazz;
+	}
+	
+	@Override
+	public <F, V> void encode(Encoder<F> encoder, @Nullable String key, V value, F object) {
+		resolve().encode(encoder, key, getter(value), object);
+	}
+	
+	@Override
+	public <F, I> T decode(Decoder<F> decoder, @Nullable String key, F object, I instance) {
+		return resolve().decode(decoder, key, object, instance);
+	}
+	
+	@SuppressWarnings("unchecked")
+	private Blueprint<T> resolve() {
+		var blueprint = this.blueprint;
+		
+		if (blueprint == null) {
+			blueprint = (Blueprint<T>) Blueprint.of(clazz);
+			
+			if (blueprint == null) {
+				throw new BlueprintException("Could not resolve blueprint for class '" + clazz.getName() + "'");
+			}
+			
+			this.blueprint = blueprint;
+		}
+		
+		return blueprint;
+	}
+	
+	@Override
+	public String toString() {
+		return "DeferredBlueprint[" + (key == null ? "None" : key) + ", " + clazz.getSimpleName() + "]";
+	}
+}
@@ -50,7 +50,12 @@ public class MapBlueprint<T1, T2, N1 extends Blueprint<T1>, N2 extends Blueprint
 		
 		decoder.readMap(n1, n2, key, object, map::put);
 		
-		return setter(map, instance);
+		return map;
+	}
+	
+	@Override
+	public <F> void skip(Decoder<F> decoder, @Nullable String key, F object) {
+		decoder.skipMap(n1, n2, key, object);
 	}
 	
 	@Override
@@ -58,6 +63,23 @@ public class MapBlueprint<T1, T2, N1 extends Blueprint<T1>, N2 extends Blueprint
 		encoder.writeMap(n1, n2, key, getter(value), object);
 	}
 	
+	public N1 getKeyBlueprint() {
+		return n1;
+	}
+	
+	public N2 getValueBlueprint() {
+		return n2;
+	}
+	
+	public Supplier1<M> getMapSupplier() {
+		return map;
+	}
+	
+	@Override
+	public Blueprint<M> compile() {
+		return inherit(new MapBlueprint<>(n1.compile(), n2.compile(), map));
+	}
+	
 	@Override
 	public String toString() {
 		return "MapBlueprint[" + (key == null ? "None" : key) + ", " + n1 + ", " + n2 + "]";
@@ -1,5 +1,6 @@
 package dev.vini2003.blueprint;
 
+import dev.vini2003.blueprint.compiled.CompiledBlueprint;
 import dev.vini2003.blueprint.consumer.Consumer2;
 import dev.vini2003.blueprint.encoding.Decoder;
 import dev.vini2003.blueprint.encoding.Encoder;
@@ -31,6 +32,16 @@ public class MappedBlueprint<T, U> extends Blueprint<U> {
 	
 	@Override
 	public <F, I> U decode(Decoder<F> decoder, @Nullable String key, F object, I instance) {
-		return decodeMapper.apply(wrapped.decode(decoder, key, object, instance));
+		return decodeMapper.apply(wrapped.decode(decoder, key, object, null));
+	}
+	
+	@Override
+	public <F> void skip(Decoder<F> decoder, @Nullable String key, F object) {
+		wrapped.skip(decoder, key, object);
+	}
+	
+	@Override
+	public Blueprint<U> compile() {
+		return CompiledBlueprint.compose(getter, setter, setterPredicate, key, wrapped.compile(), null, CompiledBlueprint.andThen(getter, encodeMapper), decodeMapper);
 	}
 }
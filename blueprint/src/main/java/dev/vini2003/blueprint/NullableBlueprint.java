@@ -0,0 +1,71 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 - 2022 vini2003
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.vini2003.blueprint;
+
+import dev.vini2003.blueprint.encoding.Decoder;
+import dev.vini2003.blueprint.encoding.Encoder;
+import org.jetbrains.annotations.Nullable;
+
+public class NullableBlueprint<T> extends Blueprint<T> {
+	private final Blueprint<T> wrapped;
+	
+	public NullableBlueprint(Blueprint<T> wrapped) {
+		this.wrapped = wrapped;
+	}
+	
+	@Override
+	@Nullable
+	public <F, I> T decode(Decoder<F> decoder, @Nullable String key, F object, I instance) {
+		var map = decoder.read(key, object);
+		
+		if (decoder.readBoolean("Exists", map)) {
+			return wrapped.decode(decoder, "Value", map, instance);
+		} else {
+			return null;
+		}
+	}
+	
+	@Override
+	public <F, V> void encode(Encoder<F> encoder, @Nullable String key, V value, F object) {
+		var map = encoder.createMap(key, object);
+		
+		var entry = getter(value);
+		
+		if (entry != null) {
+			encoder.writeBoolean("Exists", true, map);
+			
+			wrapped.encode(encoder, "Value", entry, map);
+		} else {
+			encoder.writeBoolean("Exists", false, map);
+		}
+		
+		encoder.write(key, map, object);
+	}
+	
+	@Override
+	public String toString() {
+		return "NullableBlueprint[" + (key == null ? "None" : key) + ", " + wrapped + "]";
+	}
+}
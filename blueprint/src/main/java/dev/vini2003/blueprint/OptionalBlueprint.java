@@ -26,6 +26,7 @@ package dev.vini2003.blueprint;
 
 import dev.vini2003.blueprint.encoding.Decoder;
 import dev.vini2003.blueprint.encoding.Encoder;
+import dev.vini2003.blueprint.util.KeyCache;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.Optional;
@@ -33,20 +34,29 @@ import java.util.Optional;
 public class OptionalBlueprint<T, N extends Blueprint<T>> extends Blueprint<Optional<T>> {
 	private final N n;
 	
+	private final KeyCache flagKey = new KeyCache("MetaDataFlag", "$MetaDataFlag");
+	
 	public OptionalBlueprint(N n) {
 		this.n = n;
 	}
 	
 	@Override
 	public <F, I> Optional<T> decode(Decoder<F> decoder, @Nullable String key, F object, I instance) {
-		if (decoder.readBoolean(metaDataKey(key) + "Flag", object)) {
+		if (decoder.readBoolean(decoder.isKeyed() ? flagKey.get(key) : null, object)) {
 			try {
-				return setter(Optional.of(n.decode(decoder, key, object, instance)), instance);
+				return Optional.of(n.decode(decoder, key, object, null));
 			} catch (Exception exception) {
-				return setter(Optional.empty(), instance);
+				return Optional.empty();
 			}
 		} else {
-			return setter(Optional.empty(), instance);
+			return Optional.empty();
+		}
+	}
+	
+	@Override
+	public <F> void skip(Decoder<F> decoder, @Nullable String key, F object) {
+		if (decoder.readBoolean(decoder.isKeyed() ? flagKey.get(key) : null, object)) {
+			n.skip(decoder, key, object);
 		}
 	}
 	
@@ -54,16 +64,19 @@ public class OptionalBlueprint<T, N extends Blueprint<T>> extends Blueprint<Opti
 	public <F, V> void encode(Encoder<F> encoder, @Nullable String key, V value, F object) {
 		var result = getter(value);
 		
+		var resultFlagKey = encoder.isKeyed() ? flagKey.get(key) : null;
+		
 		if (result.isPresent()) {
-			encoder.writeBoolean(metaDataKey(key) + "Flag", true, object);
-			n.encode(encoder, key, result, object);
+			encoder.writeBoolean(resultFlagKey, true, object);
+			n.encode(encoder, key, result.get(), object);
 		} else {
-			encoder.writeBoolean(metaDataKey(key) + "Flag", false, object);
+			encoder.writeBoolean(resultFlagKey, false, object);
 		}
 	}
 	
-	private String metaDataKey(String key) {
-		return key == null ? "MetaData" : key + "$MetaData";
+	@Override
+	public Blueprint<Optional<T>> compile() {
+		return inherit(new OptionalBlueprint<>(n.compile()));
 	}
 	
 	@Override
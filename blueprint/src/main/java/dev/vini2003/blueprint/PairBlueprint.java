@@ -43,12 +43,12 @@ public class PairBlueprint<T1, T2, N1 extends Blueprint<T1>, N2 extends Blueprin
 	public <F, I> Pair<T1, T2> decode(Decoder<F> decoder, @Nullable String key, F object, I instance) {
 		var map = decoder.read(key, object);
 		
-		return setter(new Pair<>(n1.decode(decoder, key, map, instance), n2.decode(decoder, key, map, instance)), instance);
+		return new Pair<>(n1.decode(decoder, key, map, null), n2.decode(decoder, key, map, null));
 	}
 	
 	@Override
 	public <F, V> void encode(Encoder<F> encoder, @Nullable String key, V value, F object) {
-		var map = encoder.createMap(object);
+		var map = encoder.createMap(key, object);
 		
 		var result = getter(value);
 		
@@ -60,6 +60,11 @@ public class PairBlueprint<T1, T2, N1 extends Blueprint<T1>, N2 extends Blueprin
 		encoder.write(key, map, object);
 	}
 	
+	@Override
+	public Blueprint<Pair<T1, T2>> compile() {
+		return inherit(new PairBlueprint<>(n1.compile(), n2.compile()));
+	}
+	
 	@Override
 	public String toString() {
 		return "PairBlueprint[" + (key == null ? "None" : key) + ", " + n1 + ", " + n2 + "]";
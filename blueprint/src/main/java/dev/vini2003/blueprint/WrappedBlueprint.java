@@ -1,5 +1,6 @@
 package dev.vini2003.blueprint;
 
+import dev.vini2003.blueprint.compiled.CompiledBlueprint;
 import dev.vini2003.blueprint.consumer.Consumer2;
 import dev.vini2003.blueprint.encoding.Decoder;
 import dev.vini2003.blueprint.encoding.Encoder;
@@ -27,4 +28,14 @@ public class WrappedBlueprint<T> extends Blueprint<T> {
 	public <F, I> T decode(Decoder<F> decoder, @Nullable String key, F object, I instance) {
 		return wrapped.decode(decoder, this.key != null ? this.key : key, object, instance);
 	}
+	
+	@Override
+	public <F> void skip(Decoder<F> decoder, @Nullable String key, F object) {
+		wrapped.skip(decoder, this.key != null ? this.key : key, object);
+	}
+	
+	@Override
+	public Blueprint<T> compile() {
+		return CompiledBlueprint.compose(getter, setter, setterPredicate, key, wrapped.compile(), key, getter, null);
+	}
 }
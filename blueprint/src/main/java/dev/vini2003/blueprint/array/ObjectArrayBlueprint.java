@@ -0,0 +1,75 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 - 2022 vini2003
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.vini2003.blueprint.array;
+
+import dev.vini2003.blueprint.Blueprint;
+import dev.vini2003.blueprint.encoding.Decoder;
+import dev.vini2003.blueprint.encoding.Encoder;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.function.IntFunction;
+
+public class ObjectArrayBlueprint<T, N extends Blueprint<T>> extends Blueprint<T[]> {
+	private final N n;
+	
+	private final IntFunction<T[]> generator;
+	
+	public ObjectArrayBlueprint(N n, IntFunction<T[]> generator) {
+		this.n = n;
+		
+		this.generator = generator;
+	}
+	
+	@Override
+	public <F, I> T[] decode(Decoder<F> decoder, @Nullable String key, F object, I instance) {
+		var list = new ArrayList<T>();
+		
+		decoder.readCollection(n, key, object, list::add);
+		
+		return list.toArray(generator.apply(list.size()));
+	}
+	
+	@Override
+	public <F> void skip(Decoder<F> decoder, @Nullable String key, F object) {
+		decoder.skipCollection(n, key, object);
+	}
+	
+	@Override
+	public <F, O> void encode(Encoder<F> encoder, @Nullable String key, O value, F object) {
+		encoder.writeCollection(n, key, Arrays.asList(getter(value)), object);
+	}
+	
+	@Override
+	public Blueprint<T[]> compile() {
+		return inherit(new ObjectArrayBlueprint<>(n.compile(), generator));
+	}
+	
+	@Override
+	public String toString() {
+		return "ObjectArrayBlueprint[" + (key == null ? "None" : key) + ", " + n + "]";
+	}
+}
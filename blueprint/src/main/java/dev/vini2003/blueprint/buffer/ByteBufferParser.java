@@ -0,0 +1,620 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 - 2022 vini2003
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.vini2003.blueprint.buffer;
+
+import dev.vini2003.blueprint.Blueprint;
+import dev.vini2003.blueprint.consumer.Consumer1;
+import dev.vini2003.blueprint.consumer.Consumer2;
+import dev.vini2003.blueprint.encoding.Decoder;
+import dev.vini2003.blueprint.encoding.Encoder;
+import dev.vini2003.blueprint.exception.DecoderException;
+import dev.vini2003.blueprint.exception.EncoderException;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Map;
+
+public class ByteBufferParser implements Encoder<ByteBufferParser.Sink>, Decoder<ByteBuffer> {
+	public static final ByteBufferParser INSTANCE = new ByteBufferParser();
+	public static final ByteBufferParser COMPACT = new ByteBufferParser(ByteOrder.BIG_ENDIAN, true);
+	
+	public static final int DEFAULT_INITIAL_CAPACITY = 256;
+	
+	private final ByteOrder order;
+	
+	private final int initialCapacity;
+	
+	private final boolean direct;
+	
+	private final boolean compact;
+	
+	public ByteBufferParser() {
+		this(ByteOrder.BIG_ENDIAN, false);
+	}
+	
+	public ByteBufferParser(ByteOrder order, boolean compact) {
+		this(order, DEFAULT_INITIAL_CAPACITY, false, compact);
+	}
+	
+	public ByteBufferParser(ByteOrder order, int initialCapacity, boolean direct, boolean compact) {
+		this.order = order;
+		
+		this.initialCapacity = initialCapacity;
+		
+		this.direct = direct;
+		
+		this.compact = compact;
+	}
+	
+	@Override
+	public boolean isKeyed() {
+		return false;
+	}
+	
+	@Override
+	public Sink createRoot() {
+		var buffer = direct ? ByteBuffer.allocateDirect(initialCapacity) : ByteBuffer.allocate(initialCapacity);
+		
+		return new Sink(buffer.order(order), true);
+	}
+	
+	public <T> ByteBuffer encode(Blueprint<T> blueprint, T value) {
+		return blueprint.encode(this, value).getBuffer().flip();
+	}
+	
+	public <T> ByteBuffer encode(Blueprint<T> blueprint, T value, ByteBuffer buffer) {
+		var sink = new Sink(buffer, !buffer.isDirect());
+		
+		blueprint.encode(this, value, sink);
+		
+		return sink.getBuffer();
+	}
+	
+	public <T> T decode(Blueprint<T> blueprint, ByteBuffer buffer) {
+		return blueprint.decode(this, buffer);
+	}
+	
+	public ByteOrder getOrder() {
+		return order;
+	}
+	
+	@Override
+	public Sink createCollection(Sink object) {
+		return object;
+	}
+	
+	@Override
+	public Sink createMap(Sink object) {
+		return object;
+	}
+	
+	@Override
+	public void write(@Nullable String key, Sink value, Sink object) {
+		return;
+	}
+	
+	@Override
+	public void writeBoolean(@Nullable String key, boolean value, Sink object) {
+		object.ensureWritable(Byte.BYTES).put((byte) (value ? 1 : 0));
+	}
+	
+	@Override
+	public void writeByte(@Nullable String key, byte value, Sink object) {
+		object.ensureWritable(Byte.BYTES).put(value);
+	}
+	
+	@Override
+	public void writeShort(@Nullable String key, short value, Sink object) {
+		var buffer = object.ensureWritable(Short.BYTES);
+		
+		buffer.putShort(buffer.order() == order ? value : Short.reverseBytes(value));
+	}
+	
+	@Override
+	public void writeChar(@Nullable String key, char value, Sink object) {
+		var buffer = object.ensureWritable(Character.BYTES);
+		
+		buffer.putChar(buffer.order() == order ? value : Character.reverseBytes(value));
+	}
+	
+	@Override
+	public void writeInt(@Nullable String key, int value, Sink object) {
+		if (compact) {
+			writeVarInt(object, (value << 1) ^ (value >> 31));
+		} else {
+			putInt(object.ensureWritable(Integer.BYTES), value);
+		}
+	}
+	
+	@Override
+	public void writeLong(@Nullable String key, long value, Sink object) {
+		if (compact) {
+			writeVarLong(object, (value << 1) ^ (value >> 63));
+		} else {
+			putLong(object.ensureWritable(Long.BYTES), value);
+		}
+	}
+	
+	@Override
+	public void writeFloat(@Nullable String key, float value, Sink object) {
+		putInt(object.ensureWritable(Float.BYTES), Float.floatToRawIntBits(value));
+	}
+	
+	@Override
+	public void writeDouble(@Nullable String key, double value, Sink object) {
+		putLong(object.ensureWritable(Double.BYTES), Double.doubleToRawLongBits(value));
+	}
+	
+	@Override
+	public void writeString(@Nullable String key, String value, Sink object) {
+		var bytes = value.getBytes(StandardCharsets.UTF_8);
+		
+		writeLength(object, bytes.length);
+		
+		object.ensureWritable(bytes.length).put(bytes);
+	}
+	
+	@Override
+	public <K, V, M extends Map<K, V>> void writeMap(Blueprint<K> keyBlueprint, Blueprint<V> valueBlueprint, @Nullable String key, M value, Sink object) {
+		var mapObject = createMap(object);
+		
+		writeLength(mapObject, value.size());
+		
+		for (var entry : value.entrySet()) {
+			keyBlueprint.encode(this, null, entry.getKey(), mapObject);
+			valueBlueprint.encode(this, null, entry.getValue(), mapObject);
+		}
+	}
+	
+	@Override
+	public <V, C extends Collection<V>> void writeCollection(Blueprint<V> valueBlueprint, @Nullable String key, C value, Sink object) {
+		var listObject = createCollection(object);
+		
+		writeLength(listObject, value.size());
+		
+		for (var entry : value) {
+			valueBlueprint.encode(this, null, entry, listObject);
+		}
+	}
+	
+	@Override
+	public void writeIntArray(@Nullable String key, int[] value, Sink object) {
+		writeLength(object, value.length);
+		
+		if (compact) {
+			for (var element : value) {
+				writeVarInt(object, (element << 1) ^ (element >> 31));
+			}
+		} else {
+			writeView(object, value.length * Integer.BYTES).asIntBuffer().put(value);
+		}
+	}
+	
+	@Override
+	public void writeLongArray(@Nullable String key, long[] value, Sink object) {
+		writeLength(object, value.length);
+		
+		if (compact) {
+			for (var element : value) {
+				writeVarLong(object, (element << 1) ^ (element >> 63));
+			}
+		} else {
+			writeView(object, value.length * Long.BYTES).asLongBuffer().put(value);
+		}
+	}
+	
+	@Override
+	public void writeFloatArray(@Nullable String key, float[] value, Sink object) {
+		writeLength(object, value.length);
+		
+		writeView(object, value.length * Float.BYTES).asFloatBuffer().put(value);
+	}
+	
+	@Override
+	public void writeDoubleArray(@Nullable String key, double[] value, Sink object) {
+		writeLength(object, value.length);
+		
+		writeView(object, value.length * Double.BYTES).asDoubleBuffer().put(value);
+	}
+	
+	@Override
+	public void writeByteArray(@Nullable String key, byte[] value, Sink object) {
+		writeLength(object, value.length);
+		
+		object.ensureWritable(value.length).put(value);
+	}
+	
+	@Override
+	public void writeShortArray(@Nullable String key, short[] value, Sink object) {
+		writeLength(object, value.length);
+		
+		writeView(object, value.length * Short.BYTES).asShortBuffer().put(value);
+	}
+	
+	@Override
+	public ByteBuffer read(@Nullable String key, ByteBuffer object) {
+		return object;
+	}
+	
+	@Override
+	public boolean readBoolean(@Nullable String key, ByteBuffer object) {
+		return object.get() != 0;
+	}
+	
+	@Override
+	public byte readByte(@Nullable String key, ByteBuffer object) {
+		return object.get();
+	}
+	
+	@Override
+	public short readShort(@Nullable String key, ByteBuffer object) {
+		var value = object.getShort();
+		
+		return object.order() == order ? value : Short.reverseBytes(value);
+	}
+	
+	@Override
+	public char readChar(@Nullable String key, ByteBuffer object) {
+		var value = object.getChar();
+		
+		return object.order() == order ? value : Character.reverseBytes(value);
+	}
+	
+	@Override
+	public int readInt(@Nullable String key, ByteBuffer object) {
+		if (compact) {
+			var value = readVarInt(object);
+			
+			return (value >>> 1) ^ -(value & 1);
+		} else {
+			return getInt(object);
+		}
+	}
+	
+	@Override
+	public long readLong(@Nullable String key, ByteBuffer object) {
+		if (compact) {
+			var value = readVarLong(object);
+			
+			return (value >>> 1) ^ -(value & 1);
+		} else {
+			return getLong(object);
+		}
+	}
+	
+	@Override
+	public float readFloat(@Nullable String key, ByteBuffer object) {
+		return Float.intBitsToFloat(getInt(object));
+	}
+	
+	@Override
+	public double readDouble(@Nullable String key, ByteBuffer object) {
+		return Double.longBitsToDouble(getLong(object));
+	}
+	
+	@Override
+	public String readString(@Nullable String key, ByteBuffer object) {
+		var length = readLength(object);
+		
+		if (length < 0 || length > object.remaining()) {
+			throw new DecoderException("String length " + length + " exceeds readable bytes " + object.remaining());
+		}
+		
+		String value;
+		
+		if (object.hasArray()) {
+			value = new String(object.array(), object.arrayOffset() + object.position(), length, StandardCharsets.UTF_8);
+			
+			object.position(object.position() + length);
+		} else {
+			var bytes = new byte[length];
+			
+			object.get(bytes);
+			
+			value = new String(bytes, StandardCharsets.UTF_8);
+		}
+		
+		return value;
+	}
+	
+	@Override
+	public <K, V> void readMap(Blueprint<K> keyBlueprint, Blueprint<V> valueBlueprint, @Nullable String key, ByteBuffer object, Consumer2<K, V> mapper) {
+		var size = readLength(object);
+		
+		for (var i = 0; i < size; i++) {
+			var mapKey = keyBlueprint.decode(this, null, object, null);
+			var mapValue = valueBlueprint.decode(this, null, object, null);
+			
+			mapper.accept(mapKey, mapValue);
+		}
+	}
+	
+	@Override
+	public <V> void readCollection(Blueprint<V> valueBlueprint, @Nullable String key, ByteBuffer object, Consumer1<V> collector) {
+		var size = readLength(object);
+		
+		for (var i = 0; i < size; i++) {
+			var collectionValue = valueBlueprint.decode(this, null, object, null);
+			
+			collector.accept(collectionValue);
+		}
+	}
+	
+	@Override
+	public void skipString(@Nullable String key, ByteBuffer object) {
+		var length = readLength(object);
+		
+		if (length < 0 || length > object.remaining()) {
+			throw new DecoderException("String length " + length + " exceeds readable bytes " + object.remaining());
+		}
+		
+		object.position(object.position() + length);
+	}
+	
+	@Override
+	public <K, V> void skipMap(Blueprint<K> keyBlueprint, Blueprint<V> valueBlueprint, @Nullable String key, ByteBuffer object) {
+		var size = readLength(object);
+		
+		for (var i = 0; i < size; i++) {
+			keyBlueprint.skip(this, null, object);
+			valueBlueprint.skip(this, null, object);
+		}
+	}
+	
+	@Override
+	public <V> void skipCollection(Blueprint<V> valueBlueprint, @Nullable String key, ByteBuffer object) {
+		var size = readLength(object);
+		
+		for (var i = 0; i < size; i++) {
+			valueBlueprint.skip(this, null, object);
+		}
+	}
+	
+	@Override
+	public int[] readIntArray(@Nullable String key, ByteBuffer object) {
+		var value = new int[readArrayLength(object, compact ? 1 : Integer.BYTES)];
+		
+		if (compact) {
+			for (var i = 0; i < value.length; ++i) {
+				var element = readVarInt(object);
+				
+				value[i] = (element >>> 1) ^ -(element & 1);
+			}
+		} else {
+			readView(object, value.length * Integer.BYTES).asIntBuffer().get(value);
+		}
+		
+		return value;
+	}
+	
+	@Override
+	public long[] readLongArray(@Nullable String key, ByteBuffer object) {
+		var value = new long[readArrayLength(object, compact ? 1 : Long.BYTES)];
+		
+		if (compact) {
+			for (var i = 0; i < value.length; ++i) {
+				var element = readVarLong(object);
+				
+				value[i] = (element >>> 1) ^ -(element & 1);
+			}
+		} else {
+			readView(object, value.length * Long.BYTES).asLongBuffer().get(value);
+		}
+		
+		return value;
+	}
+	
+	@Override
+	public float[] readFloatArray(@Nullable String key, ByteBuffer object) {
+		var value = new float[readArrayLength(object, Float.BYTES)];
+		
+		readView(object, value.length * Float.BYTES).asFloatBuffer().get(value);
+		
+		return value;
+	}
+	
+	@Override
+	public double[] readDoubleArray(@Nullable String key, ByteBuffer object) {
+		var value = new double[readArrayLength(object, Double.BYTES)];
+		
+		readView(object, value.length * Double.BYTES).asDoubleBuffer().get(value);
+		
+		return value;
+	}
+	
+	@Override
+	public byte[] readByteArray(@Nullable String key, ByteBuffer object) {
+		var value = new byte[readArrayLength(object, Byte.BYTES)];
+		
+		object.get(value);
+		
+		return value;
+	}
+	
+	@Override
+	public short[] readShortArray(@Nullable String key, ByteBuffer object) {
+		var value = new short[readArrayLength(object, Short.BYTES)];
+		
+		readView(object, value.length * Short.BYTES).asShortBuffer().get(value);
+		
+		return value;
+	}
+	
+	private void putInt(ByteBuffer buffer, int value) {
+		buffer.putInt(buffer.order() == order ? value : Integer.reverseBytes(value));
+	}
+	
+	private void putLong(ByteBuffer buffer, long value) {
+		buffer.putLong(buffer.order() == order ? value : Long.reverseBytes(value));
+	}
+	
+	private int getInt(ByteBuffer buffer) {
+		var value = buffer.getInt();
+		
+		return buffer.order() == order ? value : Integer.reverseBytes(value);
+	}
+	
+	private long getLong(ByteBuffer buffer) {
+		var value = buffer.getLong();
+		
+		return buffer.order() == order ? value : Long.reverseBytes(value);
+	}
+	
+	private void writeLength(Sink object, int length) {
+		if (compact) {
+			writeVarInt(object, length);
+		} else {
+			putInt(object.ensureWritable(Integer.BYTES), length);
+		}
+	}
+	
+	private int readLength(ByteBuffer object) {
+		return compact ? readVarInt(object) : getInt(object);
+	}
+	
+	private int readArrayLength(ByteBuffer object, int elementBytes) {
+		var length = readLength(object);
+		
+		if (length < 0 || (long) length * elementBytes > object.remaining()) {
+			throw new DecoderException("Array length " + length + " exceeds readable bytes " + object.remaining());
+		}
+		
+		return length;
+	}
+	
+	private ByteBuffer writeView(Sink object, int length) {
+		var buffer = object.ensureWritable(length);
+		
+		var view = buffer.slice().limit(length).order(order);
+		
+		buffer.position(buffer.position() + length);
+		
+		return view;
+	}
+	
+	private ByteBuffer readView(ByteBuffer object, int length) {
+		var view = object.slice().limit(length).order(order);
+		
+		object.position(object.position() + length);
+		
+		return view;
+	}
+	
+	private static void writeVarInt(Sink object, int value) {
+		var buffer = object.ensureWritable(5);
+		
+		while ((value & ~0x7F) != 0) {
+			buffer.put((byte) ((value & 0x7F) | 0x80));
+			
+			value >>>= 7;
+		}
+		
+		buffer.put((byte) value);
+	}
+	
+	private static void writeVarLong(Sink object, long value) {
+		var buffer = object.ensureWritable(10);
+		
+		while ((value & ~0x7FL) != 0L) {
+			buffer.put((byte) ((int) (value & 0x7F) | 0x80));
+			
+			value >>>= 7;
+		}
+		
+		buffer.put((byte) value);
+	}
+	
+	private static int readVarInt(ByteBuffer object) {
+		var value = 0;
+		
+		for (var shift = 0; shift < 35; shift += 7) {
+			var b = object.get();
+			
+			value |= (b & 0x7F) << shift;
+			
+			if ((b & 0x80) == 0) {
+				return value;
+			}
+		}
+		
+		throw new DecoderException("VarInt is too big");
+	}
+	
+	private static long readVarLong(ByteBuffer object) {
+		var value = 0L;
+		
+		for (var shift = 0; shift < 70; shift += 7) {
+			var b = object.get();
+			
+			value |= (long) (b & 0x7F) << shift;
+			
+			if ((b & 0x80) == 0) {
+				return value;
+			}
+		}
+		
+		throw new DecoderException("VarLong is too big");
+	}
+	
+	public static class Sink {
+		private ByteBuffer buffer;
+		
+		private final boolean growable;
+		
+		public Sink(ByteBuffer buffer, boolean growable) {
+			this.buffer = buffer;
+			
+			this.growable = growable;
+		}
+		
+		public ByteBuffer getBuffer() {
+			return buffer;
+		}
+		
+		public ByteBuffer ensureWritable(int length) {
+			if (buffer.remaining() >= length) {
+				return buffer;
+			}
+			
+			if (!growable) {
+				throw new EncoderException("Cannot write " + length + " bytes to " + buffer.getClass().getSimpleName() + " with " + buffer.remaining() + " bytes remaining");
+			}
+			
+			var capacity = Math.max(buffer.capacity() << 1, buffer.position() + length);
+			
+			var grown = buffer.isDirect() ? ByteBuffer.allocateDirect(capacity) : ByteBuffer.allocate(capacity);
+			
+			grown.order(buffer.order());
+			grown.put(buffer.flip());
+			
+			buffer = grown;
+			
+			return buffer;
+		}
+	}
+}
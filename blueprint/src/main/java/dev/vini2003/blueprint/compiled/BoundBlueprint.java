@@ -0,0 +1,233 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 - 2022 vini2003
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.vini2003.blueprint.compiled;
+
+import dev.vini2003.blueprint.Blueprint;
+import dev.vini2003.blueprint.encoding.Decoder;
+import dev.vini2003.blueprint.encoding.Encoder;
+import dev.vini2003.blueprint.exception.BlueprintException;
+import dev.vini2003.blueprint.function.Function1;
+import dev.vini2003.blueprint.primitive.BooleanBlueprint;
+import dev.vini2003.blueprint.primitive.ByteBlueprint;
+import dev.vini2003.blueprint.primitive.CharBlueprint;
+import dev.vini2003.blueprint.primitive.DoubleBlueprint;
+import dev.vini2003.blueprint.primitive.FloatBlueprint;
+import dev.vini2003.blueprint.primitive.IntBlueprint;
+import dev.vini2003.blueprint.primitive.LongBlueprint;
+import dev.vini2003.blueprint.primitive.ShortBlueprint;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+public class BoundBlueprint<T, F> extends Blueprint<T> {
+	private static final MethodType CODEC_CONSTRUCTOR_TYPE = MethodType.methodType(void.class, Encoder.class, Decoder.class, CompiledCompoundBlueprint.class, int[].class, String[].class, Blueprint[].class, Blueprint[].class, Function1[].class, Function1[].class, BoundCodec[].class);
+	
+	private static final byte[] CODEC_TEMPLATE = readCodecTemplate();
+	
+	private final Encoder<F> encoder;
+	private final Decoder<F> decoder;
+	
+	private final Blueprint<T> compiled;
+	
+	private final BoundCodec codec;
+	
+	private final boolean hidden;
+	
+	private final String rootKey;
+	
+	private final Function1<Object, Object> rootEncodeFunction;
+	private final Function1<Object, Object> rootDecodeFunction;
+	
+	public BoundBlueprint(Blueprint<T> compiled, Encoder<F> encoder, Decoder<F> decoder) {
+		this(compiled, encoder, decoder, true);
+	}
+	
+	BoundBlueprint(Blueprint<T> compiled, Encoder<F> encoder, Decoder<F> decoder, boolean hidden) {
+		super(null, null, null, compiled.getKey());
+		
+		this.encoder = encoder;
+		this.decoder = decoder;
+		
+		this.compiled = compiled;
+		
+		this.hidden = hidden;
+		
+		if (compiled instanceof CompiledBlueprint<?> compiledBlueprint && compiledBlueprint.getTarget() instanceof CompiledCompoundBlueprint<?> compound) {
+			this.codec = createCodec(compound);
+			
+			this.rootKey = compiledBlueprint.getResolvedKey();
+			
+			this.rootEncodeFunction = compiledBlueprint.getEncodeFunction();
+			this.rootDecodeFunction = compiledBlueprint.getDecodeFunction();
+		} else {
+			this.codec = compiled instanceof CompiledCompoundBlueprint<?> compound ? createCodec(compound) : null;
+			
+			this.rootKey = null;
+			
+			this.rootEncodeFunction = null;
+			this.rootDecodeFunction = null;
+		}
+	}
+	
+	public F encode(T value) {
+		return encode(encoder, value);
+	}
+	
+	public T decode(F object) {
+		return decode(decoder, object);
+	}
+	
+	@Override
+	public <E, V> void encode(Encoder<E> encoder, @Nullable String key, V value, E object) {
+		if (codec == null || encoder != this.encoder) {
+			compiled.encode(encoder, key, value, object);
+		} else {
+			codec.encode(rootKey != null ? rootKey : key, rootEncodeFunction == null ? value : rootEncodeFunction.apply(value), object);
+		}
+	}
+	
+	@Override
+	@SuppressWarnings("unchecked")
+	public <E, I> T decode(Decoder<E> decoder, @Nullable String key, E object, I instance) {
+		if (codec == null || decoder != this.decoder) {
+			return compiled.decode(decoder, key, object, instance);
+		} else {
+			var result = codec.decode(rootKey != null ? rootKey : key, object, instance);
+			
+			return (T) (rootDecodeFunction == null ? result : rootDecodeFunction.apply(result));
+		}
+	}
+	
+	@Override
+	public Blueprint<T> compile() {
+		return this;
+	}
+	
+	private BoundCodec createCodec(CompiledCompoundBlueprint<?> compound) {
+		var fieldBlueprints = compound.getFieldBlueprints();
+		var fieldKeys = compound.getFieldKeys();
+		
+		var fields = fieldBlueprints.length;
+		
+		var kinds = new int[fields];
+		var keys = new String[fields];
+		var leafBlueprints = new Blueprint<?>[fields];
+		var encodeFunctions = new Function1<?, ?>[fields];
+		var decodeFunctions = new Function1<?, ?>[fields];
+		var children = new BoundCodec[fields];
+		
+		for (var i = 0; i < fields; ++i) {
+			var fieldBlueprint = fieldBlueprints[i];
+			
+			var key = fieldKeys == null ? null : fieldKeys[i];
+			
+			if (fieldBlueprint instanceof CompiledBlueprint<?> compiledBlueprint) {
+				leafBlueprints[i] = compiledBlueprint.getTarget();
+				
+				if (compiledBlueprint.getResolvedKey() != null) {
+					key = compiledBlueprint.getResolvedKey();
+				}
+				
+				encodeFunctions[i] = compiledBlueprint.getEncodeFunction();
+				decodeFunctions[i] = compiledBlueprint.getDecodeFunction();
+			} else {
+				leafBlueprints[i] = fieldBlueprint;
+			}
+			
+			var leafBlueprint = leafBlueprints[i];
+			
+			kinds[i] = kindOf(leafBlueprint);
+			
+			if (kinds[i] < BoundCodec.STRING && leafBlueprint.getKey() != null) {
+				key = leafBlueprint.getKey();
+			}
+			
+			if (kinds[i] == BoundCodec.COMPOUND) {
+				children[i] = createCodec((CompiledCompoundBlueprint<?>) leafBlueprint);
+			}
+			
+			keys[i] = key;
+		}
+		
+		if (hidden && CODEC_TEMPLATE != null) {
+			try {
+				var lookup = MethodHandles.lookup().defineHiddenClass(CODEC_TEMPLATE, true);
+				
+				return (BoundCodec) lookup.findConstructor(lookup.lookupClass(), CODEC_CONSTRUCTOR_TYPE).invoke(encoder, decoder, compound, kinds, keys, fieldBlueprints, leafBlueprints, encodeFunctions, decodeFunctions, children);
+			} catch (IllegalAccessException | UnsupportedOperationException ignored) {
+				// Hidden classes are unavailable here, so fall back to the shared template.
+			} catch (RuntimeException | Error e) {
+				throw e;
+			} catch (Throwable throwable) {
+				throw new BlueprintException("Could not define bound codec for blueprint '" + compound + "'", throwable);
+			}
+		}
+		
+		return new BoundCodecTemplate(encoder, decoder, compound, kinds, keys, fieldBlueprints, leafBlueprints, encodeFunctions, decodeFunctions, children);
+	}
+	
+	private static int kindOf(Blueprint<?> blueprint) {
+		if (blueprint instanceof BooleanBlueprint) {
+			return BoundCodec.BOOLEAN;
+		} else if (blueprint instanceof ByteBlueprint) {
+			return BoundCodec.BYTE;
+		} else if (blueprint instanceof ShortBlueprint) {
+			return BoundCodec.SHORT;
+		} else if (blueprint instanceof CharBlueprint) {
+			return BoundCodec.CHAR;
+		} else if (blueprint instanceof IntBlueprint) {
+			return BoundCodec.INT;
+		} else if (blueprint instanceof LongBlueprint) {
+			return BoundCodec.LONG;
+		} else if (blueprint instanceof FloatBlueprint) {
+			return BoundCodec.FLOAT;
+		} else if (blueprint instanceof DoubleBlueprint) {
+			return BoundCodec.DOUBLE;
+		} else if (blueprint == Blueprint.STRING) {
+			return BoundCodec.STRING;
+		} else if (blueprint instanceof CompiledCompoundBlueprint<?>) {
+			return BoundCodec.COMPOUND;
+		} else {
+			return BoundCodec.OTHER;
+		}
+	}
+	
+	@Nullable
+	private static byte[] readCodecTemplate() {
+		try (var stream = BoundCodecTemplate.class.getResourceAsStream(BoundCodecTemplate.class.getSimpleName() + ".class")) {
+			return stream == null ? null : stream.readAllBytes();
+		} catch (IOException ignored) {
+			return null;
+		}
+	}
+	
+	@Override
+	public String toString() {
+		return "BoundBlueprint[" + (key == null ? "None" : key) + ", " + encoder.getClass().getSimpleName() + ", " + compiled + "]";
+	}
+}
@@ -0,0 +1,151 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 - 2022 vini2003
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.vini2003.blueprint.compiled;
+
+import dev.vini2003.blueprint.Blueprint;
+import dev.vini2003.blueprint.encoding.Decoder;
+import dev.vini2003.blueprint.encoding.Encoder;
+import dev.vini2003.blueprint.function.Function1;
+import dev.vini2003.blueprint.primitive.BooleanBlueprint;
+import dev.vini2003.blueprint.primitive.ByteBlueprint;
+import dev.vini2003.blueprint.primitive.CharBlueprint;
+import dev.vini2003.blueprint.primitive.DoubleBlueprint;
+import dev.vini2003.blueprint.primitive.FloatBlueprint;
+import dev.vini2003.blueprint.primitive.IntBlueprint;
+import dev.vini2003.blueprint.primitive.LongBlueprint;
+import dev.vini2003.blueprint.primitive.ShortBlueprint;
+import org.jetbrains.annotations.Nullable;
+
+@SuppressWarnings({ "rawtypes", "unchecked" })
+final class BoundCodecTemplate implements BoundCodec {
+	private final Encoder encoder;
+	private final Decoder decoder;
+	
+	private final CompiledCompoundBlueprint compound;
+	
+	private final int[] kinds;
+	private final String[] keys;
+	
+	private final Blueprint[] fieldBlueprints;
+	private final Blueprint[] leafBlueprints;
+	
+	private final Function1[] encodeFunctions;
+	private final Function1[] decodeFunctions;
+	
+	private final BoundCodec[] children;
+	
+	private final boolean fieldSetters;
+	
+	private final int fields;
+	
+	BoundCodecTemplate(Encoder encoder, Decoder decoder, CompiledCompoundBlueprint compound, int[] kinds, String[] keys, Blueprint[] fieldBlueprints, Blueprint[] leafBlueprints, Function1[] encodeFunctions, Function1[] decodeFunctions, BoundCodec[] children) {
+		this.encoder = encoder;
+		this.decoder = decoder;
+		
+		this.compound = compound;
+		
+		this.kinds = kinds;
+		this.keys = keys;
+		
+		this.fieldBlueprints = fieldBlueprints;
+		this.leafBlueprints = leafBlueprints;
+		
+		this.encodeFunctions = encodeFunctions;
+		this.decodeFunctions = decodeFunctions;
+		
+		this.children = children;
+		
+		this.fieldSetters = compound.hasFieldSetters();
+		
+		this.fields = kinds.length;
+	}
+	
+	@Override
+	public void encode(@Nullable String key, Object value, Object object) {
+		var map = encoder.createMap(key, object);
+		
+		var result = compound.getValue(value);
+		
+		for (var i = 0; i < fields; ++i) {
+			var fieldKey = keys[i] != null ? keys[i] : key;
+			
+			var encodeFunction = encodeFunctions[i];
+			var fieldValue = encodeFunction == null ? result : encodeFunction.apply(result);
+			
+			switch (kinds[i]) {
+				case BOOLEAN -> encoder.writeBoolean(fieldKey, ((BooleanBlueprint) leafBlueprints[i]).applyBoolean(fieldValue), map);
+				case BYTE -> encoder.writeByte(fieldKey, ((ByteBlueprint) leafBlueprints[i]).applyByte(fieldValue), map);
+				case SHORT -> encoder.writeShort(fieldKey, ((ShortBlueprint) leafBlueprints[i]).applyShort(fieldValue), map);
+				case CHAR -> encoder.writeChar(fieldKey, ((CharBlueprint) leafBlueprints[i]).applyChar(fieldValue), map);
+				case INT -> encoder.writeInt(fieldKey, ((IntBlueprint) leafBlueprints[i]).applyInt(fieldValue), map);
+				case LONG -> encoder.writeLong(fieldKey, ((LongBlueprint) leafBlueprints[i]).applyLong(fieldValue), map);
+				case FLOAT -> encoder.writeFloat(fieldKey, ((FloatBlueprint) leafBlueprints[i]).applyFloat(fieldValue), map);
+				case DOUBLE -> encoder.writeDouble(fieldKey, ((DoubleBlueprint) leafBlueprints[i]).applyDouble(fieldValue), map);
+				case STRING -> encoder.writeString(fieldKey, (String) fieldValue, map);
+				case COMPOUND -> children[i].encode(fieldKey, fieldValue, map);
+				default -> leafBlueprints[i].encode(encoder, fieldKey, fieldValue, map);
+			}
+		}
+		
+		encoder.write(key, map, object);
+	}
+	
+	@Override
+	public Object decode(@Nullable String key, Object object, Object instance) {
+		var map = decoder.read(key, object);
+		
+		var results = new Object[fields];
+		
+		for (var i = 0; i < fields; ++i) {
+			var fieldKey = keys[i] != null ? keys[i] : key;
+			
+			Object result;
+			
+			switch (kinds[i]) {
+				case BOOLEAN -> result = decoder.readBoolean(fieldKey, map);
+				case BYTE -> result = decoder.readByte(fieldKey, map);
+				case SHORT -> result = decoder.readShort(fieldKey, map);
+				case CHAR -> result = decoder.readChar(fieldKey, map);
+				case INT -> result = decoder.readInt(fieldKey, map);
+				case LONG -> result = decoder.readLong(fieldKey, map);
+				case FLOAT -> result = decoder.readFloat(fieldKey, map);
+				case DOUBLE -> result = decoder.readDouble(fieldKey, map);
+				case STRING -> result = decoder.readString(fieldKey, map);
+				case COMPOUND -> result = children[i].decode(fieldKey, map, fieldBlueprints[i].instanceOf(instance));
+				default -> result = leafBlueprints[i].decode(decoder, fieldKey, map, fieldBlueprints[i].instanceOf(instance));
+			}
+			
+			var decodeFunction = decodeFunctions[i];
+			
+			if (decodeFunction != null) {
+				result = decodeFunction.apply(result);
+			}
+			
+			results[i] = fieldSetters ? fieldBlueprints[i].setter(result, instance) : result;
+		}
+		
+		return compound.getConstructor().apply(results);
+	}
+}
@@ -0,0 +1,142 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 - 2022 vini2003
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.vini2003.blueprint.compiled;
+
+import dev.vini2003.blueprint.Blueprint;
+import dev.vini2003.blueprint.consumer.Consumer2;
+import dev.vini2003.blueprint.encoding.Decoder;
+import dev.vini2003.blueprint.encoding.Encoder;
+import dev.vini2003.blueprint.function.Function1;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.function.Predicate;
+
+public class CompiledBlueprint<T> extends Blueprint<T> {
+	private final Blueprint<?> target;
+	
+	private final String resolvedKey;
+	
+	private final Function1<Object, Object> encodeFunction;
+	private final Function1<Object, Object> decodeFunction;
+	
+	@SuppressWarnings("unchecked")
+	public CompiledBlueprint(Function1<?, T> getter, Consumer2<?, ?> setter, Predicate<?> setterPredicate, String key, Blueprint<?> target, @Nullable String resolvedKey, @Nullable Function1<?, ?> encodeFunction, @Nullable Function1<?, ?> decodeFunction) {
+		super(getter, setter, setterPredicate, key);
+		
+		this.target = target;
+		
+		this.resolvedKey = resolvedKey;
+		
+		this.encodeFunction = (Function1<Object, Object>) encodeFunction;
+		this.decodeFunction = (Function1<Object, Object>) decodeFunction;
+	}
+	
+	public static <T> CompiledBlueprint<T> compose(Function1<?, T> getter, Consumer2<?, ?> setter, Predicate<?> setterPredicate, String key, Blueprint<?> compiled, @Nullable String layerKey, @Nullable Function1<?, ?> layerEncodeFunction, @Nullable Function1<?, ?> layerDecodeFunction) {
+		if (compiled instanceof CompiledBlueprint<?> compiledBlueprint) {
+			return new CompiledBlueprint<>(
+					getter, setter, setterPredicate, key,
+					compiledBlueprint.target,
+					compiledBlueprint.resolvedKey != null ? compiledBlueprint.resolvedKey : layerKey,
+					andThen(layerEncodeFunction, compiledBlueprint.encodeFunction),
+					andThen(compiledBlueprint.decodeFunction, layerDecodeFunction)
+			);
+		} else {
+			return new CompiledBlueprint<>(getter, setter, setterPredicate, key, compiled, layerKey, layerEncodeFunction, layerDecodeFunction);
+		}
+	}
+	
+	@SuppressWarnings("unchecked")
+	public static Function1<?, ?> andThen(@Nullable Function1<?, ?> first, @Nullable Function1<?, ?> second) {
+		if (first == null) {
+			return second;
+		}
+		
+		if (second == null) {
+			return first;
+		}
+		
+		var firstFunction = (Function1<Object, Object>) first;
+		var secondFunction = (Function1<Object, Object>) second;
+		
+		return (value) -> secondFunction.apply(firstFunction.apply(value));
+	}
+	
+	@Override
+	public <F, V> void encode(Encoder<F> encoder, @Nullable String key, V value, F object) {
+		target.encode(encoder, resolvedKey != null ? resolvedKey : key, encodeFunction == null ? value : encodeFunction.apply(value), object);
+	}
+	
+	@Override
+	@SuppressWarnings("unchecked")
+	public <F, I> T decode(Decoder<F> decoder, @Nullable String key, F object, I instance) {
+		var result = target.decode(decoder, resolvedKey != null ? resolvedKey : key, object, instance);
+		
+		return (T) (decodeFunction == null ? result : decodeFunction.apply(result));
+	}
+	
+	@Override
+	@Nullable
+	public <I> Object instanceOf(@Nullable I instance) {
+		if (instance == null || decodeFunction != null) {
+			return null;
+		}
+		
+		return encodeFunction == null ? instance : encodeFunction.apply(instance);
+	}
+	
+	@Override
+	public <F> void skip(Decoder<F> decoder, @Nullable String key, F object) {
+		target.skip(decoder, resolvedKey != null ? resolvedKey : key, object);
+	}
+	
+	@Override
+	public Blueprint<T> compile() {
+		return this;
+	}
+	
+	public Blueprint<?> getTarget() {
+		return target;
+	}
+	
+	@Nullable
+	public String getResolvedKey() {
+		return resolvedKey;
+	}
+	
+	@Nullable
+	public Function1<Object, Object> getEncodeFunction() {
+		return encodeFunction;
+	}
+	
+	@Nullable
+	public Function1<Object, Object> getDecodeFunction() {
+		return decodeFunction;
+	}
+	
+	@Override
+	public String toString() {
+		return "CompiledBlueprint[" + (resolvedKey == null ? "None" : resolvedKey) + ", " + target + "]";
+	}
+}
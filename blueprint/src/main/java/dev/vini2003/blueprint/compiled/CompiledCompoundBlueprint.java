@@ -0,0 +1,152 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 - 2022 vini2003
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.vini2003.blueprint.compiled;
+
+import dev.vini2003.blueprint.Blueprint;
+import dev.vini2003.blueprint.consumer.Consumer2;
+import dev.vini2003.blueprint.encoding.Decoder;
+import dev.vini2003.blueprint.encoding.Encoder;
+import dev.vini2003.blueprint.function.Function1;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.function.Predicate;
+
+public class CompiledCompoundBlueprint<T> extends Blueprint<T> {
+	private final Blueprint<?>[] fieldBlueprints;
+	private final String[] fieldKeys;
+	
+	private final Function1<Object[], T> constructor;
+	
+	private final boolean fieldSetters;
+	
+	private final int fields;
+	
+	public CompiledCompoundBlueprint(Function1<?, T> getter, Consumer2<?, ?> setter, Predicate<?> setterPredicate, String key, Blueprint<?>[] fieldBlueprints, @Nullable String[] fieldKeys, Function1<Object[], T> constructor, boolean fieldSetters) {
+		super(getter, setter, setterPredicate, key);
+		
+		this.fieldBlueprints = fieldBlueprints;
+		this.fieldKeys = fieldKeys;
+		
+		this.constructor = constructor;
+		
+		this.fieldSetters = fieldSetters;
+		
+		this.fields = fieldBlueprints.length;
+	}
+	
+	@Override
+	public <F, I> T decode(Decoder<F> decoder, @Nullable String key, F object, I instance) {
+		var map = decoder.read(key, object);
+		
+		var results = new Object[fields];
+		
+		for (var i = 0; i < fields; ++i) {
+			var fieldBlueprint = fieldBlueprints[i];
+			
+			var result = fieldBlueprint.decode(decoder, fieldKeys == null ? key : fieldKeys[i], map, fieldBlueprint.instanceOf(instance));
+			
+			results[i] = fieldSetters ? fieldBlueprint.setter(result, instance) : result;
+		}
+		
+		return constructor.apply(results);
+	}
+	
+	@Override
+	public <F> void skip(Decoder<F> decoder, @Nullable String key, F object) {
+		var map = decoder.read(key, object);
+		
+		for (var i = 0; i < fields; ++i) {
+			fieldBlueprints[i].skip(decoder, fieldKeys == null ? key : fieldKeys[i], map);
+		}
+	}
+	
+	@Override
+	public <F, V> void encode(Encoder<F> encoder, @Nullable String key, V value, F object) {
+		var map = encoder.createMap(key, object);
+		
+		var result = getter(value);
+		
+		for (var i = 0; i < fields; ++i) {
+			fieldBlueprints[i].encode(encoder, fieldKeys == null ? key : fieldKeys[i], result, map);
+		}
+		
+		encoder.write(key, map, object);
+	}
+	
+	@Override
+	public Blueprint<T> compile() {
+		return this;
+	}
+	
+	public <V> T getValue(V value) {
+		return getter(value);
+	}
+	
+	public Blueprint<?>[] getFieldBlueprints() {
+		return fieldBlueprints;
+	}
+	
+	@Nullable
+	public String[] getFieldKeys() {
+		return fieldKeys;
+	}
+	
+	public Function1<Object[], T> getConstructor() {
+		return constructor;
+	}
+	
+	public boolean hasFieldSetters() {
+		return fieldSetters;
+	}
+	
+	@Nullable
+	public String getFieldKey(int index) {
+		if (fieldKeys != null) {
+			return fieldKeys[index];
+		}
+		
+		if (fieldBlueprints[index] instanceof CompiledBlueprint<?> compiledBlueprint && compiledBlueprint.getResolvedKey() != null) {
+			return compiledBlueprint.getResolvedKey();
+		}
+		
+		return fieldBlueprints[index].getKey();
+	}
+	
+	public int indexOf(String key) {
+		for (var i = 0; i < fields; ++i) {
+			if (key.equals(getFieldKey(i))) {
+				return i;
+			}
+		}
+		
+		return -1;
+	}
+	
+	@Override
+	public String toString() {
+		return "CompiledCompoundBlueprint[" + (key == null ? "None" : key) + ", " + Arrays.toString(fieldBlueprints) + "]";
+	}
+}
@@ -0,0 +1,596 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 - 2022 vini2003
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.vini2003.blueprint.compiled;
+
+import dev.vini2003.blueprint.Blueprint;
+import dev.vini2003.blueprint.CollectionBlueprint;
+import dev.vini2003.blueprint.MapBlueprint;
+import dev.vini2003.blueprint.encoding.Decoder;
+import dev.vini2003.blueprint.encoding.Encoder;
+import dev.vini2003.blueprint.exception.DecoderException;
+import dev.vini2003.blueprint.exception.EncoderException;
+import dev.vini2003.blueprint.function.Function1;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+@SuppressWarnings({ "rawtypes", "unchecked" })
+public class DeltaBlueprint<T> extends Blueprint<T> {
+	private static final int VALUE = 0;
+	private static final int COMPOUND = 1;
+	private static final int LIST = 2;
+	private static final int SET = 3;
+	private static final int MAP = 4;
+	
+	private static final int LOOKAHEAD = 16;
+	
+	private static final String MASK_KEY = "$Changed";
+	
+	private static final String OPERATIONS_KEY = "Operations";
+	private static final String VALUES_KEY = "Values";
+	private static final String REMOVED_KEY = "Removed";
+	private static final String ADDED_KEY = "Added";
+	private static final String PUT_KEY = "Put";
+	
+	private final CompiledCompoundBlueprint<T> compound;
+	
+	private final int[] kinds;
+	private final String[] keys;
+	
+	private final Blueprint[] leafBlueprints;
+	
+	private final Function1[] encodeFunctions;
+	private final Function1[] decodeFunctions;
+	
+	private final DeltaBlueprint[] children;
+	
+	private final int[] replaceBits;
+	
+	private final int fields;
+	
+	private final int maskBits;
+	
+	public DeltaBlueprint(CompiledCompoundBlueprint<T> compound) {
+		super(null, null, null, compound.getKey());
+		
+		this.compound = compound;
+		
+		var fieldBlueprints = compound.getFieldBlueprints();
+		var fieldKeys = compound.getFieldKeys();
+		
+		this.fields = fieldBlueprints.length;
+		
+		this.kinds = new int[fields];
+		this.keys = new String[fields];
+		this.leafBlueprints = new Blueprint[fields];
+		this.encodeFunctions = new Function1[fields];
+		this.decodeFunctions = new Function1[fields];
+		this.children = new DeltaBlueprint[fields];
+		this.replaceBits = new int[fields];
+		
+		var bits = fields;
+		
+		for (var i = 0; i < fields; ++i) {
+			var fieldBlueprint = fieldBlueprints[i];
+			
+			keys[i] = fieldKeys == null ? null : fieldKeys[i];
+			
+			if (fieldBlueprint instanceof CompiledBlueprint<?> compiledBlueprint) {
+				leafBlueprints[i] = compiledBlueprint.getTarget();
+				
+				if (compiledBlueprint.getResolvedKey() != null) {
+					keys[i] = compiledBlueprint.getResolvedKey();
+				}
+				
+				encodeFunctions[i] = compiledBlueprint.getEncodeFunction();
+				decodeFunctions[i] = compiledBlueprint.getDecodeFunction();
+			} else {
+				leafBlueprints[i] = fieldBlueprint;
+			}
+			
+			kinds[i] = kindOf(leafBlueprints[i]);
+			
+			if (kinds[i] == COMPOUND) {
+				children[i] = new DeltaBlueprint<>((CompiledCompoundBlueprint<?>) leafBlueprints[i]);
+			}
+			
+			// Structural fields get a second bit, set when the field is replaced instead of patched.
+			replaceBits[i] = kinds[i] == VALUE ? -1 : bits++;
+		}
+		
+		this.maskBits = bits;
+	}
+	
+	public <F> F encodeDelta(Encoder<F> encoder, T previous, T current) {
+		var root = encoder.createRoot();
+		encodeDelta(encoder, null, previous, current, root);
+		return root;
+	}
+	
+	public <F> void encodeDelta(Encoder<F> encoder, T previous, T current, F object) {
+		encodeDelta(encoder, null, previous, current, object);
+	}
+	
+	public <F> void encodeDelta(Encoder<F> encoder, @Nullable String key, Object previous, Object current, F object) {
+		write(encoder, key, diff(compound.getValue(previous), compound.getValue(current)), object);
+	}
+	
+	public <F> T decodeDelta(Decoder<F> decoder, F object, T previous) {
+		return decodeDelta(decoder, null, object, previous, null);
+	}
+	
+	public <F, I> T decodeDelta(Decoder<F> decoder, @Nullable String key, F object, Object previous, I instance) {
+		var map = decoder.read(key, object);
+		
+		var masks = new long[(maskBits + 63) >>> 6];
+		
+		for (var i = 0; i < masks.length; ++i) {
+			masks[i] = readMask(decoder, i == 0 ? MASK_KEY : MASK_KEY + i, maskWidth(i), map);
+		}
+		
+		var fieldBlueprints = compound.getFieldBlueprints();
+		
+		var fieldSetters = compound.hasFieldSetters();
+		
+		var previousResult = compound.getValue(previous);
+		
+		var results = new Object[fields];
+		
+		for (var i = 0; i < fields; ++i) {
+			var changed = isSet(masks, i);
+			var replaced = replaceBits[i] != -1 && isSet(masks, replaceBits[i]);
+			
+			var fieldInstance = fieldBlueprints[i].instanceOf(instance);
+			
+			Object result;
+			
+			if (!changed && !replaced) {
+				result = valueOf(i, previousResult);
+			} else if (!changed) {
+				result = null;
+			} else {
+				var fieldKey = keys[i] != null ? keys[i] : key;
+				
+				if (replaced) {
+					result = leafBlueprints[i].decode(decoder, fieldKey, map, fieldInstance);
+				} else {
+					var previousValue = valueOf(i, previousResult);
+					
+					switch (kinds[i]) {
+						case COMPOUND -> result = children[i].decodeDelta(decoder, fieldKey, map, fieldOf(i, previousResult), fieldInstance);
+						case LIST -> result = decodeList(decoder, fieldKey, (CollectionBlueprint) leafBlueprints[i], (List) previousValue, map);
+						case SET -> result = decodeSet(decoder, fieldKey, (CollectionBlueprint) leafBlueprints[i], (Set) previousValue, map);
+						case MAP -> result = decodeMap(decoder, fieldKey, (MapBlueprint) leafBlueprints[i], (Map) previousValue, map);
+						default -> result = leafBlueprints[i].decode(decoder, fieldKey, map, fieldInstance);
+					}
+				}
+			}
+			
+			var decodeFunction = decodeFunctions[i];
+			
+			if (decodeFunction != null && result != null) {
+				result = decodeFunction.apply(result);
+			}
+			
+			results[i] = (changed || replaced) && fieldSetters ? fieldBlueprints[i].setter(result, instance) : result;
+		}
+		
+		return compound.getConstructor().apply(results);
+	}
+	
+	@Override
+	public <F, I> T decode(Decoder<F> decoder, @Nullable String key, F object, I instance) {
+		return compound.decode(decoder, key, object, instance);
+	}
+	
+	@Override
+	public <F, V> void encode(Encoder<F> encoder, @Nullable String key, V value, F object) {
+		compound.encode(encoder, key, value, object);
+	}
+	
+	public CompiledCompoundBlueprint<T> getCompound() {
+		return compound;
+	}
+	
+	private Delta diff(Object previousResult, Object currentResult) {
+		var delta = new Delta(currentResult, new long[(maskBits + 63) >>> 6], new Object[fields]);
+		
+		for (var i = 0; i < fields; ++i) {
+			var previousValue = valueOf(i, previousResult);
+			var currentValue = valueOf(i, currentResult);
+			
+			if (Objects.deepEquals(previousValue, currentValue)) {
+				continue;
+			}
+			
+			if (kinds[i] == VALUE) {
+				delta.set(i);
+				
+				continue;
+			}
+			
+			// A null on either side cannot be patched, so it is sent as a replacement, or as a bare replace bit for null.
+			if (previousValue == null || currentValue == null) {
+				if (currentValue != null) {
+					delta.set(i);
+				}
+				
+				delta.set(replaceBits[i]);
+				
+				continue;
+			}
+			
+			var fieldDelta = switch (kinds[i]) {
+				case COMPOUND -> children[i].diffCompound(previousValue, currentValue);
+				case LIST -> diffList((List) previousValue, (List) currentValue);
+				case SET -> diffSet((Set) previousValue, (Set) currentValue);
+				default -> diffMap((MapBlueprint) leafBlueprints[i], (Map) previousValue, (Map) currentValue);
+			};
+			
+			delta.set(i);
+			
+			// Patches that would not be smaller than the value itself are sent as replacements.
+			if (fieldDelta == null) {
+				delta.set(replaceBits[i]);
+			} else {
+				delta.fieldDeltas[i] = fieldDelta;
+			}
+		}
+		
+		return delta;
+	}
+	
+	@Nullable
+	private Delta diffCompound(Object previousResult, Object currentResult) {
+		var delta = diff(previousResult, currentResult);
+		
+		return delta.isComplete(this) ? null : delta;
+	}
+	
+	private <F> void write(Encoder<F> encoder, @Nullable String key, Delta delta, F object) {
+		var map = encoder.createMap(key, object);
+		
+		for (var i = 0; i < delta.masks.length; ++i) {
+			writeMask(encoder, i == 0 ? MASK_KEY : MASK_KEY + i, maskWidth(i), delta.masks[i], map);
+		}
+		
+		for (var i = 0; i < fields; ++i) {
+			if (!isSet(delta.masks, i)) {
+				continue;
+			}
+			
+			var fieldKey = keys[i] != null ? keys[i] : key;
+			
+			var fieldDelta = delta.fieldDeltas[i];
+			
+			if (fieldDelta == null) {
+				leafBlueprints[i].encode(encoder, fieldKey, encodeFunctions[i] == null ? delta.result : encodeFunctions[i].apply(delta.result), map);
+			} else {
+				switch (kinds[i]) {
+					case COMPOUND -> children[i].write(encoder, fieldKey, (Delta) fieldDelta, map);
+					case LIST -> writeList(encoder, fieldKey, (CollectionBlueprint) leafBlueprints[i], (ListDelta) fieldDelta, map);
+					case SET -> writeSet(encoder, fieldKey, (CollectionBlueprint) leafBlueprints[i], (SetDelta) fieldDelta, map);
+					default -> writeMap(encoder, fieldKey, (MapBlueprint) leafBlueprints[i], (MapDelta) fieldDelta, map);
+				}
+			}
+		}
+		
+		encoder.write(key, map, object);
+	}
+	
+	private Object fieldOf(int index, Object result) {
+		return encodeFunctions[index] == null ? result : encodeFunctions[index].apply(result);
+	}
+	
+	private Object valueOf(int index, Object result) {
+		var value = fieldOf(index, result);
+		
+		if (kinds[index] == COMPOUND) {
+			return value == null ? null : children[index].compound.getValue(value);
+		} else {
+			return leafBlueprints[index].extract(value);
+		}
+	}
+	
+	private int maskWidth(int word) {
+		return Math.min(Long.SIZE, maskBits - (word << 6));
+	}
+	
+	private static boolean isSet(long[] masks, int bit) {
+		return (masks[bit >>> 6] & (1L << bit)) != 0L;
+	}
+	
+	private static <F> void writeMask(Encoder<F> encoder, String key, int width, long mask, F object) {
+		var maskKey = encoder.isKeyed() ? key : null;
+		
+		if (width <= Byte.SIZE) {
+			encoder.writeByte(maskKey, (byte) mask, object);
+		} else if (width <= Short.SIZE) {
+			encoder.writeShort(maskKey, (short) mask, object);
+		} else if (width <= Integer.SIZE) {
+			encoder.writeInt(maskKey, (int) mask, object);
+		} else {
+			encoder.writeLong(maskKey, mask, object);
+		}
+	}
+	
+	private static <F> long readMask(Decoder<F> decoder, String key, int width, F object) {
+		var maskKey = decoder.isKeyed() ? key : null;
+		
+		if (width <= Byte.SIZE) {
+			return decoder.readByte(maskKey, object) & 0xFFL;
+		} else if (width <= Short.SIZE) {
+			return decoder.readShort(maskKey, object) & 0xFFFFL;
+		} else if (width <= Integer.SIZE) {
+			return decoder.readInt(maskKey, object) & 0xFFFFFFFFL;
+		} else {
+			return decoder.readLong(maskKey, object);
+		}
+	}
+	
+	@Nullable
+	private static ListDelta diffList(List previous, List current) {
+		var operations = new int[12];
+		var size = 0;
+		
+		var values = new ArrayList<>();
+		
+		var cursor = 0;
+		
+		var i = 0;
+		var j = 0;
+		
+		while (i < previous.size() || j < current.size()) {
+			if (i < previous.size() && j < current.size() && Objects.equals(previous.get(i), current.get(j))) {
+				++i;
+				++j;
+				
+				continue;
+			}
+			
+			var removedCount = previous.size() - i;
+			var insertedCount = current.size() - j;
+			
+			search:
+			for (var distance = 1; distance <= LOOKAHEAD; ++distance) {
+				for (var k = 0; k <= distance; ++k) {
+					if (i + k < previous.size() && j + distance - k < current.size() && Objects.equals(previous.get(i + k), current.get(j + distance - k))) {
+						removedCount = k;
+						insertedCount = distance - k;
+						
+						break search;
+					}
+				}
+			}
+			
+			if (size + 3 > operations.length) {
+				operations = Arrays.copyOf(operations, operations.length << 1);
+			}
+			
+			operations[size++] = i - cursor;
+			operations[size++] = removedCount;
+			operations[size++] = insertedCount;
+			
+			values.addAll(current.subList(j, j + insertedCount));
+			
+			// Each operation costs about as much as a value, past the size of the list a replacement is smaller.
+			if (size + values.size() >= current.size()) {
+				return null;
+			}
+			
+			i += removedCount;
+			j += insertedCount;
+			
+			cursor = i;
+		}
+		
+		return new ListDelta(Arrays.copyOf(operations, size), values);
+	}
+	
+	@Nullable
+	private static SetDelta diffSet(Set previous, Set current) {
+		var removed = new ArrayList<>();
+		var added = new ArrayList<>();
+		
+		for (var value : previous) {
+			if (!current.contains(value)) {
+				removed.add(value);
+			}
+		}
+		
+		for (var value : current) {
+			if (!previous.contains(value)) {
+				added.add(value);
+			}
+		}
+		
+		return removed.size() + added.size() >= current.size() ? null : new SetDelta(removed, added);
+	}
+	
+	@Nullable
+	private static MapDelta diffMap(MapBlueprint blueprint, Map previous, Map current) {
+		var removed = new ArrayList<>();
+		var put = (Map) blueprint.getMapSupplier().get();
+		
+		for (var previousKey : previous.keySet()) {
+			if (!current.containsKey(previousKey)) {
+				removed.add(previousKey);
+			}
+		}
+		
+		for (var entry : (Set<Map.Entry>) current.entrySet()) {
+			if (!previous.containsKey(entry.getKey()) || !Objects.deepEquals(previous.get(entry.getKey()), entry.getValue())) {
+				put.put(entry.getKey(), entry.getValue());
+			}
+		}
+		
+		return removed.size() + put.size() >= current.size() ? null : new MapDelta(removed, put);
+	}
+	
+	private static <F> void writeList(Encoder<F> encoder, @Nullable String key, CollectionBlueprint blueprint, ListDelta delta, F object) {
+		var map = encoder.createMap(key, object);
+		
+		encoder.writeIntArray(OPERATIONS_KEY, delta.operations(), map);
+		encoder.writeCollection(blueprint.getValueBlueprint(), VALUES_KEY, delta.values(), map);
+		
+		encoder.write(key, map, object);
+	}
+	
+	private static <F> Collection decodeList(Decoder<F> decoder, @Nullable String key, CollectionBlueprint blueprint, List previous, F object) {
+		var map = decoder.read(key, object);
+		
+		var operations = decoder.readIntArray(OPERATIONS_KEY, map);
+		
+		var values = new ArrayList<>();
+		
+		decoder.readCollection(blueprint.getValueBlueprint(), VALUES_KEY, map, values::add);
+		
+		if (operations.length % 3 != 0) {
+			throw new DecoderException("Mismatched list delta operations for '" + key + "'");
+		}
+		
+		var result = (Collection) blueprint.getCollectionSupplier().get();
+		
+		var cursor = 0;
+		var valueIndex = 0;
+		
+		for (var i = 0; i < operations.length; i += 3) {
+			var start = cursor + operations[i];
+			var end = valueIndex + operations[i + 2];
+			
+			if (operations[i] < 0 || operations[i + 1] < 0 || operations[i + 2] < 0 || start + operations[i + 1] > previous.size() || end > values.size()) {
+				throw new DecoderException("List delta operation for '" + key + "' exceeds list bounds");
+			}
+			
+			result.addAll(previous.subList(cursor, start));
+			result.addAll(values.subList(valueIndex, end));
+			
+			cursor = start + operations[i + 1];
+			valueIndex = end;
+		}
+		
+		result.addAll(previous.subList(cursor, previous.size()));
+		
+		return result;
+	}
+	
+	private static <F> void writeSet(Encoder<F> encoder, @Nullable String key, CollectionBlueprint blueprint, SetDelta delta, F object) {
+		var map = encoder.createMap(key, object);
+		
+		encoder.writeCollection(blueprint.getValueBlueprint(), REMOVED_KEY, delta.removed(), map);
+		encoder.writeCollection(blueprint.getValueBlueprint(), ADDED_KEY, delta.added(), map);
+		
+		encoder.write(key, map, object);
+	}
+	
+	private static <F> Collection decodeSet(Decoder<F> decoder, @Nullable String key, CollectionBlueprint blueprint, Set previous, F object) {
+		var map = decoder.read(key, object);
+		
+		var result = (Collection) blueprint.getCollectionSupplier().get();
+		
+		result.addAll(previous);
+		
+		decoder.readCollection(blueprint.getValueBlueprint(), REMOVED_KEY, map, result::remove);
+		decoder.readCollection(blueprint.getValueBlueprint(), ADDED_KEY, map, result::add);
+		
+		return result;
+	}
+	
+	private static <F> void writeMap(Encoder<F> encoder, @Nullable String key, MapBlueprint blueprint, MapDelta delta, F object) {
+		var map = encoder.createMap(key, object);
+		
+		encoder.writeCollection(blueprint.getKeyBlueprint(), REMOVED_KEY, delta.removed(), map);
+		encoder.writeMap(blueprint.getKeyBlueprint(), blueprint.getValueBlueprint(), PUT_KEY, delta.put(), map);
+		
+		encoder.write(key, map, object);
+	}
+	
+	private static <F> Map decodeMap(Decoder<F> decoder, @Nullable String key, MapBlueprint blueprint, Map previous, F object) {
+		var map = decoder.read(key, object);
+		
+		var result = (Map) blueprint.getMapSupplier().get();
+		
+		result.putAll(previous);
+		
+		decoder.readCollection(blueprint.getKeyBlueprint(), REMOVED_KEY, map, result::remove);
+		decoder.readMap(blueprint.getKeyBlueprint(), blueprint.getValueBlueprint(), PUT_KEY, map, result::put);
+		
+		return result;
+	}
+	
+	private static int kindOf(Blueprint<?> blueprint) {
+		if (blueprint instanceof CompiledCompoundBlueprint<?>) {
+			return COMPOUND;
+		} else if (blueprint instanceof MapBlueprint<?, ?, ?, ?, ?>) {
+			return MAP;
+		} else if (blueprint instanceof CollectionBlueprint<?, ?, ?> collectionBlueprint) {
+			var collection = collectionBlueprint.getCollectionSupplier().get();
+			
+			if (collection instanceof List<?>) {
+				return LIST;
+			} else if (collection instanceof Set<?>) {
+				return SET;
+			}
+		}
+		
+		return VALUE;
+	}
+	
+	@Override
+	public String toString() {
+		return "DeltaBlueprint[" + (key == null ? "None" : key) + ", " + compound + "]";
+	}
+	
+	private record Delta(Object result, long[] masks, Object[] fieldDeltas) {
+		private void set(int bit) {
+			masks[bit >>> 6] |= 1L << bit;
+		}
+		
+		private boolean isComplete(DeltaBlueprint<?> blueprint) {
+			for (var i = 0; i < blueprint.fields; ++i) {
+				if (!isSet(masks, i) || fieldDeltas[i] != null) {
+					return false;
+				}
+			}
+			
+			return true;
+		}
+	}
+	
+	private record ListDelta(int[] operations, List values) {
+	}
+	
+	private record SetDelta(List removed, List added) {
+	}
+	
+	private record MapDelta(List removed, Map put) {
+	}
+}
@@ -0,0 +1,139 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 - 2022 vini2003
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.vini2003.blueprint.compiled;
+
+import dev.vini2003.blueprint.encoding.Decoder;
+import dev.vini2003.blueprint.exception.BlueprintException;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+
+public class LazyCompound<T> {
+	private static final Object UNDECODED = new Object();
+	
+	private final CompiledCompoundBlueprint<T> blueprint;
+	
+	private Decoder<Object> decoder;
+	
+	private final String key;
+	
+	private Object source;
+	
+	private final Object[] values;
+	
+	private T value;
+	
+	private int remaining;
+	
+	@SuppressWarnings("unchecked")
+	public <F> LazyCompound(CompiledCompoundBlueprint<T> blueprint, Decoder<F> decoder, @Nullable String key, F source) {
+		this.blueprint = blueprint;
+		
+		this.decoder = (Decoder<Object>) decoder;
+		
+		this.key = key;
+		
+		this.source = source;
+		
+		this.values = new Object[blueprint.getFieldBlueprints().length];
+		
+		this.remaining = values.length;
+		
+		Arrays.fill(values, UNDECODED);
+	}
+	
+	public LazyCompound(CompiledCompoundBlueprint<T> blueprint, T value) {
+		this.blueprint = blueprint;
+		
+		this.key = null;
+		
+		this.values = null;
+		
+		this.value = value;
+	}
+	
+	public <V> V get(String key) {
+		var index = blueprint.indexOf(key);
+		
+		if (index < 0) {
+			throw new BlueprintException("Compound " + blueprint + " has no field '" + key + "'");
+		}
+		
+		return get(index);
+	}
+	
+	@SuppressWarnings("unchecked")
+	public <V> V get(int index) {
+		if (values == null) {
+			throw new BlueprintException("Cannot read field " + index + " of an already decoded compound");
+		}
+		
+		var result = values[index];
+		
+		if (result == UNDECODED) {
+			if (decoder == null) {
+				throw new BlueprintException("Field '" + blueprint.getFieldKey(index) + "' was not projected");
+			}
+			
+			var fieldKeys = blueprint.getFieldKeys();
+			
+			result = blueprint.getFieldBlueprints()[index].decode(decoder, fieldKeys == null ? key : fieldKeys[index], source, null);
+			
+			values[index] = result;
+			
+			if (--remaining == 0) {
+				decoder = null;
+				source = null;
+			}
+		}
+		
+		return (V) result;
+	}
+	
+	public boolean isDecoded(int index) {
+		return values == null || values[index] != UNDECODED;
+	}
+	
+	public T get() {
+		if (value == null) {
+			decodeAll();
+			
+			value = blueprint.getConstructor().apply(values.clone());
+		}
+		
+		return value;
+	}
+	
+	void decodeAll() {
+		for (var i = 0; i < values.length; ++i) {
+			get(i);
+		}
+	}
+	
+	void release() {
+		decoder = null;
+		source = null;
+	}
+}
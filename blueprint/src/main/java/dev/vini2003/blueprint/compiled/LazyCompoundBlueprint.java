@@ -0,0 +1,78 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 - 2022 vini2003
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.vini2003.blueprint.compiled;
+
+import dev.vini2003.blueprint.Blueprint;
+import dev.vini2003.blueprint.encoding.ClassDictionary;
+import dev.vini2003.blueprint.encoding.Decoder;
+import dev.vini2003.blueprint.encoding.Encoder;
+import org.jetbrains.annotations.Nullable;
+
+public class LazyCompoundBlueprint<T> extends Blueprint<LazyCompound<T>> {
+	private final CompiledCompoundBlueprint<T> compound;
+	
+	public LazyCompoundBlueprint(CompiledCompoundBlueprint<T> compound) {
+		super(null, null, null, compound.getKey());
+		
+		this.compound = compound;
+	}
+	
+	@Override
+	public <F, I> LazyCompound<T> decode(Decoder<F> decoder, @Nullable String key, F object, I instance) {
+		var lazy = new LazyCompound<>(compound, decoder, key, decoder.read(key, object));
+		
+		// Class dictionary IDs are assigned in read order, so fields cannot be read out of order while one is open.
+		if (!decoder.isRandomAccess() || ClassDictionary.current() != null) {
+			lazy.decodeAll();
+		}
+		
+		return lazy;
+	}
+	
+	@Override
+	public <F, V> void encode(Encoder<F> encoder, @Nullable String key, V value, F object) {
+		var map = encoder.createMap(key, object);
+		
+		var result = getter(value).get();
+		
+		var fieldBlueprints = compound.getFieldBlueprints();
+		var fieldKeys = compound.getFieldKeys();
+		
+		for (var i = 0; i < fieldBlueprints.length; ++i) {
+			fieldBlueprints[i].encode(encoder, fieldKeys == null ? key : fieldKeys[i], result, map);
+		}
+		
+		encoder.write(key, map, object);
+	}
+	
+	public CompiledCompoundBlueprint<T> getCompound() {
+		return compound;
+	}
+	
+	@Override
+	public String toString() {
+		return "LazyCompoundBlueprint[" + (key == null ? "None" : key) + ", " + compound + "]";
+	}
+}
@@ -0,0 +1,92 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 - 2022 vini2003
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.vini2003.blueprint.compiled;
+
+import dev.vini2003.blueprint.encoding.ClassDictionary;
+import dev.vini2003.blueprint.encoding.Decoder;
+import dev.vini2003.blueprint.exception.BlueprintException;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+
+public class ProjectedBlueprint<T> extends LazyCompoundBlueprint<T> {
+	private final String[] keys;
+	
+	private final boolean[] projected;
+	
+	public ProjectedBlueprint(CompiledCompoundBlueprint<T> compound, String... keys) {
+		super(compound);
+		
+		this.keys = keys;
+		
+		this.projected = new boolean[compound.getFieldBlueprints().length];
+		
+		for (var projectedKey : keys) {
+			var index = compound.indexOf(projectedKey);
+			
+			if (index < 0) {
+				throw new BlueprintException("Compound " + compound + " has no field '" + projectedKey + "', cannot project it");
+			}
+			
+			projected[index] = true;
+		}
+	}
+	
+	@Override
+	public <F, I> LazyCompound<T> decode(Decoder<F> decoder, @Nullable String key, F object, I instance) {
+		var compound = getCompound();
+		
+		var map = decoder.read(key, object);
+		
+		var projection = new LazyCompound<>(compound, decoder, key, map);
+		
+		var fieldBlueprints = compound.getFieldBlueprints();
+		var fieldKeys = compound.getFieldKeys();
+		
+		var keyed = decoder.isKeyed();
+		
+		// Class dictionary IDs are assigned in read order, so every field is read in order while one is open.
+		var dictionary = ClassDictionary.current() != null;
+		
+		for (var i = 0; i < projected.length; ++i) {
+			if (projected[i]) {
+				projection.get(i);
+			} else if (dictionary) {
+				fieldBlueprints[i].decode(decoder, fieldKeys == null ? key : fieldKeys[i], map, null);
+			} else if (!keyed) {
+				fieldBlueprints[i].skip(decoder, fieldKeys == null ? key : fieldKeys[i], map);
+			}
+		}
+		
+		projection.release();
+		
+		return projection;
+	}
+	
+	@Override
+	public String toString() {
+		return "ProjectedBlueprint[" + (key == null ? "None" : key) + ", " + Arrays.toString(keys) + ", " + getCompound() + "]";
+	}
+}
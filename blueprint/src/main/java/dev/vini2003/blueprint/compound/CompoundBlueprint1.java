@@ -25,6 +25,7 @@
 package dev.vini2003.blueprint.compound;
 
 import dev.vini2003.blueprint.Blueprint;
+import dev.vini2003.blueprint.compiled.CompiledCompoundBlueprint;
 import dev.vini2003.blueprint.encoding.Decoder;
 import dev.vini2003.blueprint.encoding.Encoder;
 import dev.vini2003.blueprint.function.Function1;
@@ -45,18 +46,26 @@ public class CompoundBlueprint1<R, T1, N1 extends Blueprint<T1>> extends Bluepri
 	public <F, I> R decode(Decoder<F> decoder, @Nullable String key, F object, I instance) {
 		var map = decoder.read(key, object);
 		
-		return setter(mapper.apply(n1.setter(n1.decode(decoder, key, map, instance), instance)), instance);
+		return mapper.apply(n1.setter(n1.decode(decoder, key, map, n1.instanceOf(instance)), instance));
 	}
 	
 	@Override
 	public <F, O> void encode(Encoder<F> encoder, @Nullable String key, O value, F object) {
-		var map = encoder.createMap(object);
+		var map = encoder.createMap(key, object);
 		
-		n1.encode(encoder, key, getter(value), map);
+		var result = getter(value);
+		
+		n1.encode(encoder, key, result, map);
 		
 		encoder.write(key, map, object);
 	}
 	
+	@Override
+	@SuppressWarnings("unchecked")
+	public Blueprint<R> compile() {
+		return new CompiledCompoundBlueprint<>(getter, setter, setterPredicate, key, new Blueprint<?>[] { n1.compile() }, null, (values) -> mapper.apply((T1) values[0]), true);
+	}
+	
 	@Override
 	public String toString() {
 		return "CompoundBlueprint[" + (key == null ? "None" : key) + ", " + n1 + "]";
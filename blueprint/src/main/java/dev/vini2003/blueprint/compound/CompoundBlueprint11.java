@@ -25,6 +25,7 @@
 package dev.vini2003.blueprint.compound;
 
 import dev.vini2003.blueprint.Blueprint;
+import dev.vini2003.blueprint.compiled.CompiledCompoundBlueprint;
 import dev.vini2003.blueprint.encoding.Decoder;
 import dev.vini2003.blueprint.encoding.Encoder;
 import dev.vini2003.blueprint.function.Function11;
@@ -66,40 +67,48 @@ public class CompoundBlueprint11<R, T1, T2, T3, T4, T5, T6, T7, T8, T9, T10, T11
 	public <F, I> R decode(Decoder<F> decoder, @Nullable String key, F object, I instance) {
 		var map = decoder.read(key, object);
 		
-		return setter(mapper.apply(
-				n1.setter(n1.decode(decoder, key, map, instance), instance),
-				n2.setter(n2.decode(decoder, key, map, instance), instance),
-				n3.setter(n3.decode(decoder, key, map, instance), instance),
-				n4.setter(n4.decode(decoder, key, map, instance), instance),
-				n5.setter(n5.decode(decoder, key, map, instance), instance),
-				n6.setter(n6.decode(decoder, key, map, instance), instance),
-				n7.setter(n7.decode(decoder, key, map, instance), instance),
-				n8.setter(n8.decode(decoder, key, map, instance), instance),
-				n9.setter(n9.decode(decoder, key, map, instance), instance),
-				n10.setter(n10.decode(decoder, key, map, instance), instance),
-				n11.setter(n11.decode(decoder, key, map, instance), instance)
-		), instance);
+		return mapper.apply(
+				n1.setter(n1.decode(decoder, key, map, n1.instanceOf(instance)), instance),
+				n2.setter(n2.decode(decoder, key, map, n2.instanceOf(instance)), instance),
+				n3.setter(n3.decode(decoder, key, map, n3.instanceOf(instance)), instance),
+				n4.setter(n4.decode(decoder, key, map, n4.instanceOf(instance)), instance),
+				n5.setter(n5.decode(decoder, key, map, n5.instanceOf(instance)), instance),
+				n6.setter(n6.decode(decoder, key, map, n6.instanceOf(instance)), instance),
+				n7.setter(n7.decode(decoder, key, map, n7.instanceOf(instance)), instance),
+				n8.setter(n8.decode(decoder, key, map, n8.instanceOf(instance)), instance),
+				n9.setter(n9.decode(decoder, key, map, n9.instanceOf(instance)), instance),
+				n10.setter(n10.decode(decoder, key, map, n10.instanceOf(instance)), instance),
+				n11.setter(n11.decode(decoder, key, map, n11.instanceOf(instance)), instance)
+		);
 	}
 	
 	@Override
 	public <F, O> void encode(Encoder<F> encoder, @Nullable String key, O value, F object) {
-		var map = encoder.createMap(object);
+		var map = encoder.createMap(key, object);
 		
-		n1.encode(encoder, key, getter(value), map);
-		n2.encode(encoder, key, getter(value), map);
-		n3.encode(encoder, key, getter(value), map);
-		n4.encode(encoder, key, getter(value), map);
-		n5.encode(encoder, key, getter(value), map);
-		n6.encode(encoder, key, getter(value), map);
-		n7.encode(encoder, key, getter(value), map);
-		n8.encode(encoder, key, getter(value), map);
-		n9.encode(encoder, key, getter(value), map);
-		n10.encode(encoder, key, getter(value), map);
-		n11.encode(encoder, key, getter(value), map);
+		var result = getter(value);
+		
+		n1.encode(encoder, key, result, map);
+		n2.encode(encoder, key, result, map);
+		n3.encode(encoder, key, result, map);
+		n4.encode(encoder, key, result, map);
+		n5.encode(encoder, key, result, map);
+		n6.encode(encoder, key, result, map);
+		n7.encode(encoder, key, result, map);
+		n8.encode(encoder, key, result, map);
+		n9.encode(encoder, key, result, map);
+		n10.encode(encoder, key, result, map);
+		n11.encode(encoder, key, result, map);
 		
 		encoder.write(key, map, object);
 	}
 	
+	@Override
+	@SuppressWarnings("unchecked")
+	public Blueprint<R> compile() {
+		return new CompiledCompoundBlueprint<>(getter, setter, setterPredicate, key, new Blueprint<?>[] { n1.compile(), n2.compile(), n3.compile(), n4.compile(), n5.compile(), n6.compile(), n7.compile(), n8.compile(), n9.compile(), n10.compile(), n11.compile() }, null, (values) -> mapper.apply((T1) values[0], (T2) values[1], (T3) values[2], (T4) values[3], (T5) values[4], (T6) values[5], (T7) values[6], (T8) values[7], (T9) values[8], (T10) values[9], (T11) values[10]), true);
+	}
+	
 	@Override
 	public String toString() {
 		return "CompoundBlueprint[" + (key == null ? "None" : key) + ", " + n1 + ", " + n2 + ", " + n3 + ", " + n4 + ", " + n5 + ", " + n6 + ", " + n7 + ", " + n8 + ", " + n9 + ", " + n10 + ", " + n11 + "]";
@@ -0,0 +1,138 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 - 2022 vini2003
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.vini2003.blueprint.encoding;
+
+import dev.vini2003.blueprint.Blueprint;
+import dev.vini2003.blueprint.exception.DecoderException;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class ClassDictionary implements AutoCloseable {
+	private static final ThreadLocal<ClassDictionary> CURRENT = new ThreadLocal<>();
+	
+	private static final String ID_PREFIX = "#";
+	
+	private final ClassDictionary previous;
+	
+	private final Map<Class<?>, Integer> ids = new HashMap<>();
+	private final List<String> names = new ArrayList<>();
+	
+	private ClassDictionary(@Nullable ClassDictionary previous) {
+		this.previous = previous;
+	}
+	
+	public static ClassDictionary open() {
+		var dictionary = new ClassDictionary(CURRENT.get());
+		
+		CURRENT.set(dictionary);
+		
+		return dictionary;
+	}
+	
+	@Nullable
+	public static ClassDictionary current() {
+		return CURRENT.get();
+	}
+	
+	public static <F> void writeClass(Encoder<F> encoder, @Nullable String key, Class<?> clazz, F object) {
+		var dictionary = CURRENT.get();
+		
+		if (dictionary == null) {
+			encoder.writeString(key, clazz.getName(), object);
+		} else {
+			var id = dictionary.ids.get(clazz);
+			
+			if (id != null) {
+				encoder.writeString(key, ID_PREFIX + id, object);
+			} else {
+				encoder.writeString(key, clazz.getName(), object);
+				
+				dictionary.ids.put(clazz, dictionary.ids.size());
+			}
+		}
+	}
+	
+	@SuppressWarnings("rawtypes")
+	public static <F> Blueprint readBlueprint(Decoder<F> decoder, @Nullable String key, F object) {
+		return ClassResolver.getInstance().resolveBlueprint(readName(decoder, key, object));
+	}
+	
+	public static <F> Class<?> readClass(Decoder<F> decoder, @Nullable String key, F object) {
+		return ClassResolver.getInstance().resolve(readName(decoder, key, object));
+	}
+	
+	private static <F> String readName(Decoder<F> decoder, @Nullable String key, F object) {
+		var dictionary = CURRENT.get();
+		
+		var name = decoder.readString(key, object);
+		
+		// IDs are written as marked strings, so a payload read with the wrong dictionary mode fails here instead of misreading later values.
+		if (name.startsWith(ID_PREFIX)) {
+			if (dictionary == null) {
+				throw new DecoderException("Class ID '" + name + "' was written with a ClassDictionary, but none is open");
+			}
+			
+			int id;
+			
+			try {
+				id = Integer.parseInt(name, ID_PREFIX.length(), name.length(), 10);
+			} catch (NumberFormatException e) {
+				throw new DecoderException("Class ID '" + name + "' is malformed", e);
+			}
+			
+			if (id < 0 || id >= dictionary.names.size()) {
+				throw new DecoderException("Class ID " + id + " was not defined in " + dictionary);
+			}
+			
+			return dictionary.names.get(id);
+		}
+		
+		if (dictionary != null) {
+			dictionary.names.add(name);
+		}
+		
+		return name;
+	}
+	
+	@Override
+	public void close() {
+		if (CURRENT.get() == this) {
+			if (previous == null) {
+				CURRENT.remove();
+			} else {
+				CURRENT.set(previous);
+			}
+		}
+	}
+	
+	@Override
+	public String toString() {
+		return "ClassDictionary[" + ids.size() + ", " + names.size() + "]";
+	}
+}
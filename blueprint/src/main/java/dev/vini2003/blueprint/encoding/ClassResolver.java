@@ -0,0 +1,157 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 - 2022 vini2003
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.vini2003.blueprint.encoding;
+
+import dev.vini2003.blueprint.Blueprint;
+import dev.vini2003.blueprint.annotation.Blueprintable;
+import dev.vini2003.blueprint.annotation.DefaultBlueprint;
+import dev.vini2003.blueprint.exception.DecoderException;
+import dev.vini2003.blueprint.predicate.Predicate1;
+
+import java.lang.reflect.Modifier;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class ClassResolver {
+	private static volatile ClassResolver instance = new ClassResolver(ClassResolver::isAllowedByDefault);
+	
+	private final Predicate1<Class<?>> allowlist;
+	private final ClassLoader classLoader;
+	
+	private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+	
+	public ClassResolver(Predicate1<Class<?>> allowlist) {
+		this(allowlist, ClassResolver.class.getClassLoader());
+	}
+	
+	public ClassResolver(Predicate1<Class<?>> allowlist, ClassLoader classLoader) {
+		this.allowlist = allowlist;
+		this.classLoader = classLoader;
+	}
+	
+	public static ClassResolver getInstance() {
+		return instance;
+	}
+	
+	public static void setInstance(ClassResolver resolver) {
+		instance = resolver;
+	}
+	
+	public static boolean isAllowedByDefault(Class<?> clazz) {
+		if (clazz.isArray()) {
+			return isAllowedByDefault(clazz.getComponentType());
+		}
+		
+		if (Blueprint.isRegistered(clazz) || clazz.isAnnotationPresent(Blueprintable.class)) {
+			return true;
+		}
+		
+		if (clazz.getName().startsWith("java.util.")) {
+			return Collection.class.isAssignableFrom(clazz) || Map.class.isAssignableFrom(clazz) || Optional.class == clazz;
+		}
+		
+		for (var field : clazz.getDeclaredFields()) {
+			if (Modifier.isStatic(field.getModifiers()) && field.isAnnotationPresent(DefaultBlueprint.class)) {
+				return true;
+			}
+		}
+		
+		return false;
+	}
+	
+	public ClassResolver allow(Class<?>... clazzes) {
+		for (var clazz : clazzes) {
+			entries.put(clazz.getName(), new Entry(clazz));
+		}
+		
+		return this;
+	}
+	
+	public Class<?> resolve(String name) {
+		return entry(name).clazz;
+	}
+	
+	@SuppressWarnings("rawtypes")
+	public Blueprint resolveBlueprint(String name) {
+		return entry(name).blueprint();
+	}
+	
+	private Entry entry(String name) {
+		var entry = entries.get(name);
+		
+		if (entry != null) {
+			return entry;
+		}
+		
+		Class<?> clazz;
+		
+		try {
+			clazz = Class.forName(name, false, classLoader);
+		} catch (ClassNotFoundException e) {
+			throw new DecoderException("Could not find class '" + name + "'", e);
+		}
+		
+		if (!allowlist.test(clazz)) {
+			throw new DecoderException("Class '" + name + "' is not allowed by " + this);
+		}
+		
+		return entries.computeIfAbsent(name, (key) -> new Entry(clazz));
+	}
+	
+	@Override
+	public String toString() {
+		return "ClassResolver[" + entries.size() + "]";
+	}
+	
+	private static class Entry {
+		private final Class<?> clazz;
+		
+		@SuppressWarnings("rawtypes")
+		private volatile Blueprint blueprint;
+		
+		private Entry(Class<?> clazz) {
+			this.clazz = clazz;
+		}
+		
+		@SuppressWarnings("rawtypes")
+		private Blueprint blueprint() {
+			var blueprint = this.blueprint;
+			
+			if (blueprint == null) {
+				blueprint = Blueprint.of(clazz);
+				
+				if (blueprint == null) {
+					throw new DecoderException("Could not resolve blueprint for class '" + clazz.getName() + "'");
+				}
+				
+				this.blueprint = blueprint;
+			}
+			
+			return blueprint;
+		}
+	}
+}
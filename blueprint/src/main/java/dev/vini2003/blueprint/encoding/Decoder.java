@@ -27,9 +27,16 @@ package dev.vini2003.blueprint.encoding;
 import dev.vini2003.blueprint.Blueprint;
 import dev.vini2003.blueprint.consumer.Consumer1;
 import dev.vini2003.blueprint.consumer.Consumer2;
+import dev.vini2003.blueprint.util.ArrayUtil;
 import org.jetbrains.annotations.Nullable;
 
-public interface Decoder<F> {
+import java.util.ArrayList;
+
+public interface Decoder<F> extends Keyed {
+	default boolean isRandomAccess() {
+		return isKeyed();
+	}
+	
 	F read(@Nullable String key, F object);
 	
 	boolean readBoolean(@Nullable String key, F object);
@@ -53,4 +60,64 @@ public interface Decoder<F> {
 	<K, V> void readMap(Blueprint<K> keyBlueprint, Blueprint<V> valueBlueprint, @Nullable String key, F object, Consumer2<K, V> mapper);
 	
 	<V> void readCollection(Blueprint<V> valueBlueprint, @Nullable String key, F object, Consumer1<V> collector);
+	
+	default void skipString(@Nullable String key, F object) {
+		readString(key, object);
+	}
+	
+	default <K, V> void skipMap(Blueprint<K> keyBlueprint, Blueprint<V> valueBlueprint, @Nullable String key, F object) {
+		readMap(keyBlueprint, valueBlueprint, key, object, (mapKey, mapValue) -> {});
+	}
+	
+	default <V> void skipCollection(Blueprint<V> valueBlueprint, @Nullable String key, F object) {
+		readCollection(valueBlueprint, key, object, (value) -> {});
+	}
+	
+	default int[] readIntArray(@Nullable String key, F object) {
+		var list = new ArrayList<Integer>();
+		
+		readCollection(Blueprint.INTEGER, key, object, list::add);
+		
+		return ArrayUtil.toIntArray(list);
+	}
+	
+	default long[] readLongArray(@Nullable String key, F object) {
+		var list = new ArrayList<Long>();
+		
+		readCollection(Blueprint.LONG, key, object, list::add);
+		
+		return ArrayUtil.toLongArray(list);
+	}
+	
+	default float[] readFloatArray(@Nullable String key, F object) {
+		var list = new ArrayList<Float>();
+		
+		readCollection(Blueprint.FLOAT, key, object, list::add);
+		
+		return ArrayUtil.toFloatArray(list);
+	}
+	
+	default double[] readDoubleArray(@Nullable String key, F object) {
+		var list = new ArrayList<Double>();
+		
+		readCollection(Blueprint.DOUBLE, key, object, list::add);
+		
+		return ArrayUtil.toDoubleArray(list);
+	}
+	
+	default byte[] readByteArray(@Nullable String key, F object) {
+		var list = new ArrayList<Byte>();
+		
+		readCollection(Blueprint.BYTE, key, object, list::add);
+		
+		return ArrayUtil.toByteArray(list);
+	}
+	
+	default short[] readShortArray(@Nullable String key, F object) {
+		var list = new ArrayList<Short>();
+		
+		readCollection(Blueprint.SHORT, key, object, list::add);
+		
+		return ArrayUtil.toShortArray(list);
+	}
 }
\ No newline at end of file
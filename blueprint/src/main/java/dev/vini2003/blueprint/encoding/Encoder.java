@@ -25,18 +25,23 @@
 package dev.vini2003.blueprint.encoding;
 
 import dev.vini2003.blueprint.Blueprint;
+import dev.vini2003.blueprint.util.ArrayUtil;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.Collection;
 import java.util.Map;
 
-public interface Encoder<F> {
+public interface Encoder<F> extends Keyed {
 	F createRoot();
 	
 	F createCollection(F object);
 	
 	F createMap(F object);
 	
+	default F createMap(@Nullable String key, F object) {
+		return createMap(object);
+	}
+	
 	void write(@Nullable String key, F value, F object);
 	
 	void writeBoolean(@Nullable String key, boolean value, F object);
@@ -60,4 +65,28 @@ public interface Encoder<F> {
 	<K, V, M extends Map<K, V>> void writeMap(Blueprint<K> keyBlueprint, Blueprint<V> valueBlueprint, @Nullable String key, M value, F object);
 	
 	<V, C extends Collection<V>> void writeCollection(Blueprint<V> valueBlueprint, @Nullable String key, C value, F object);
+	
+	default void writeIntArray(@Nullable String key, int[] value, F object) {
+		writeCollection(Blueprint.INTEGER, key, ArrayUtil.asList(value), object);
+	}
+	
+	default void writeLongArray(@Nullable String key, long[] value, F object) {
+		writeCollection(Blueprint.LONG, key, ArrayUtil.asList(value), object);
+	}
+	
+	default void writeFloatArray(@Nullable String key, float[] value, F object) {
+		writeCollection(Blueprint.FLOAT, key, ArrayUtil.asList(value), object);
+	}
+	
+	default void writeDoubleArray(@Nullable String key, double[] value, F object) {
+		writeCollection(Blueprint.DOUBLE, key, ArrayUtil.asList(value), object);
+	}
+	
+	default void writeByteArray(@Nullable String key, byte[] value, F object) {
+		writeCollection(Blueprint.BYTE, key, ArrayUtil.asList(value), object);
+	}
+	
+	default void writeShortArray(@Nullable String key, short[] value, F object) {
+		writeCollection(Blueprint.SHORT, key, ArrayUtil.asList(value), object);
+	}
 }
\ No newline at end of file
@@ -25,9 +25,11 @@
 package dev.vini2003.blueprint.generic;
 
 import dev.vini2003.blueprint.Blueprint;
+import dev.vini2003.blueprint.encoding.ClassDictionary;
 import dev.vini2003.blueprint.encoding.Decoder;
 import dev.vini2003.blueprint.encoding.Encoder;
 import dev.vini2003.blueprint.supplier.Supplier1;
+import dev.vini2003.blueprint.util.KeyCache;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.Collection;
@@ -36,6 +38,12 @@ import java.util.Collection;
 public class GenericCollectionBlueprint extends Blueprint<Collection> {
 	private final Supplier1<Collection> collection;
 	
+	private final KeyCache flagKey = new KeyCache("MetaData$Flag", "$MetaData$Flag");
+	private final KeyCache valueKey = new KeyCache("MetaData$Value", "$MetaData$Value");
+	private final KeyCache polymorphicKey = new KeyCache("MetaData$Polymorphic", "$MetaData$Polymorphic");
+	private final KeyCache classesKey = new KeyCache("MetaData$Classes", "$MetaData$Classes");
+	private final KeyCache typesKey = new KeyCache("MetaData$Types", "$MetaData$Types");
+	
 	public GenericCollectionBlueprint(Supplier1<Collection> collection) {
 		this.collection = collection;
 	}
@@ -44,50 +52,63 @@ public class GenericCollectionBlueprint extends Blueprint<Collection> {
 	public <F, I> Collection decode(Decoder<F> decoder, @Nullable String key, F object, I instance) {
 		var newCollection = this.collection.get();
 		
-		var exists = decoder.readBoolean(metaDataKey(key) + "$Flag", object);
+		var keyed = decoder.isKeyed();
+		
+		var exists = decoder.readBoolean(keyed ? flagKey.get(key) : null, object);
 		
 		if (exists) {
 			try {
-				var valueClass = Class.forName(decoder.readString(metaDataKey(key) + "$Value", object));
+				var polymorphic = decoder.readBoolean(keyed ? polymorphicKey.get(key) : null, object);
 				
-				var valueBlueprint = Blueprint.of(valueClass);
+				var valueBlueprint = polymorphic ? PolymorphicBlueprint.read(decoder, keyed ? classesKey.get(key) : null, keyed ? typesKey.get(key) : null, object) : ClassDictionary.readBlueprint(decoder, keyed ? valueKey.get(key) : null, object);
 				
 				decoder.readCollection(valueBlueprint, key, object, newCollection::add);
 				
-				return setter(newCollection, instance);
+				return newCollection;
 			} catch (Exception e) {
-				return setter(newCollection, instance);
+				// Positional formats cannot skip the rest of a value that failed to decode.
+				if (!decoder.isKeyed()) {
+					throw e;
+				}
+				
+				return newCollection;
 			}
 		} else {
-			return setter(newCollection, instance);
+			return newCollection;
 		}
 	}
 	
 	@Override
 	public <F, V> void encode(Encoder<F> encoder, @Nullable String key, V value, F object) {
-		var collection = encoder.createCollection(object);
-		
 		var valueCollection = getter(value);
 		
+		var keyed = encoder.isKeyed();
+		
 		if (!valueCollection.isEmpty()) {
-			var entry = valueCollection.stream().findFirst().orElseThrow();
+			encoder.writeBoolean(keyed ? flagKey.get(key) : null, true, object);
 			
-			var valueBlueprint = Blueprint.of(entry);
-			
-			encoder.writeBoolean("Exists", true, collection);
-			
-			encoder.writeString("Value", entry.getClass().getName(), collection);
-			
-			encoder.writeCollection(valueBlueprint, key, valueCollection, collection);
+			if (PolymorphicBlueprint.isPolymorphic(valueCollection)) {
+				var valueBlueprint = PolymorphicBlueprint.of(valueCollection);
+				
+				encoder.writeBoolean(keyed ? polymorphicKey.get(key) : null, true, object);
+				
+				valueBlueprint.write(encoder, keyed ? classesKey.get(key) : null, keyed ? typesKey.get(key) : null, object);
+				
+				encoder.writeCollection(valueBlueprint, key, valueCollection, object);
+			} else {
+				var entry = valueCollection.stream().findFirst().orElseThrow();
+				
+				var valueBlueprint = Blueprint.of(entry);
+				
+				encoder.writeBoolean(keyed ? polymorphicKey.get(key) : null, false, object);
+				
+				ClassDictionary.writeClass(encoder, keyed ? valueKey.get(key) : null, entry.getClass(), object);
+				
+				encoder.writeCollection(valueBlueprint, key, valueCollection, object);
+			}
 		} else {
-			encoder.writeBoolean("Exists", false, collection);
+			encoder.writeBoolean(keyed ? flagKey.get(key) : null, false, object);
 		}
-		
-		encoder.write(key, collection, object);
-	}
-	
-	private String metaDataKey(String key) {
-		return key == null ? "MetaData" : key + "$MetaData";
 	}
 	
 	@Override
@@ -25,10 +25,16 @@
 package dev.vini2003.blueprint.generic;
 
 import dev.vini2003.blueprint.Blueprint;
+import dev.vini2003.blueprint.compiled.CompiledCompoundBlueprint;
 import dev.vini2003.blueprint.encoding.Decoder;
 import dev.vini2003.blueprint.encoding.Encoder;
+import dev.vini2003.blueprint.exception.BlueprintException;
+import dev.vini2003.blueprint.exception.DecoderException;
 import org.jetbrains.annotations.Nullable;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.util.Arrays;
 
 public class GenericCompoundBlueprint<T> extends Blueprint<T> {
@@ -38,6 +44,8 @@ public class GenericCompoundBlueprint<T> extends Blueprint<T> {
 	private final Class<?>[] fieldClazzes;
 	private final String[] fieldKeys;
 	
+	private final MethodHandle constructor;
+	
 	private final int fields;
 	
 	public GenericCompoundBlueprint(Class<?> clazz, Blueprint<?>[] fieldBlueprints, Class<?>[] fieldClazzes, String[] fieldKeys) {
@@ -48,6 +56,8 @@ public class GenericCompoundBlueprint<T> extends Blueprint<T> {
 		this.fieldKeys = fieldKeys;
 		
 		this.fields = fieldBlueprints.length;
+		
+		this.constructor = findConstructor(clazz, fieldClazzes);
 	}
 	
 	@Override
@@ -59,19 +69,19 @@ public class GenericCompoundBlueprint<T> extends Blueprint<T> {
 		for (var i = 0; i < fields; ++i) {
 			var fieldBlueprint = fieldBlueprints[i];
 			
-			results[i] = fieldBlueprint.decode(decoder, fieldKeys[i], map, instance);
+			results[i] = fieldBlueprint.decode(decoder, fieldKeys[i], map, fieldBlueprint.instanceOf(instance));
 		}
 		
 		try {
-			return (T) setter(clazz.getConstructor(fieldClazzes).newInstance(results), instance);
-		} catch (Exception e) {
-			return null;
+			return (T) constructor.invokeExact(results);
+		} catch (Throwable throwable) {
+			throw new DecoderException("Could not instantiate class '" + clazz.getName() + "'", throwable);
 		}
 	}
 	
 	@Override
 	public <F, V> void encode(Encoder<F> encoder, @Nullable String key, V value, F object) {
-		var map = encoder.createMap(object);
+		var map = encoder.createMap(key, object);
 		
 		for (var i = 0; i < fields; ++i) {
 			var fieldBlueprint = fieldBlueprints[i];
@@ -82,6 +92,40 @@ public class GenericCompoundBlueprint<T> extends Blueprint<T> {
 		encoder.write(key, map, object);
 	}
 	
+	@Override
+	@SuppressWarnings("unchecked")
+	public Blueprint<T> compile() {
+		var compiledFieldBlueprints = new Blueprint<?>[fields];
+		
+		for (var i = 0; i < fields; ++i) {
+			compiledFieldBlueprints[i] = fieldBlueprints[i].compile();
+		}
+		
+		return new CompiledCompoundBlueprint<>(getter, setter, setterPredicate, key, compiledFieldBlueprints, fieldKeys, (values) -> {
+			try {
+				return (T) constructor.invokeExact(values);
+			} catch (Throwable throwable) {
+				throw new DecoderException("Could not instantiate class '" + clazz.getName() + "'", throwable);
+			}
+		}, false);
+	}
+	
+	private static MethodHandle findConstructor(Class<?> clazz, Class<?>[] fieldClazzes) {
+		try {
+			var lookup = MethodHandles.publicLookup();
+			
+			try {
+				lookup = MethodHandles.privateLookupIn(clazz, MethodHandles.lookup());
+			} catch (IllegalAccessException | SecurityException ignored) {}
+			
+			return lookup.findConstructor(clazz, MethodType.methodType(void.class, fieldClazzes))
+					.asSpreader(Object[].class, fieldClazzes.length)
+					.asType(MethodType.methodType(Object.class, Object[].class));
+		} catch (NoSuchMethodException | IllegalAccessException e) {
+			throw new BlueprintException("Class '" + clazz.getName() + "' did not have constructor matching fields " + Arrays.toString(fieldClazzes) + ", cannot create blueprint", e);
+		}
+	}
+	
 	@Override
 	public String toString() {
 		var nodeStrings = new String[fields];
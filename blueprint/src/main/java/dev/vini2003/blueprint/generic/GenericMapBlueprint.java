@@ -25,11 +25,13 @@
 package dev.vini2003.blueprint.generic;
 
 import dev.vini2003.blueprint.Blueprint;
+import dev.vini2003.blueprint.encoding.ClassDictionary;
 import dev.vini2003.blueprint.encoding.Decoder;
 import dev.vini2003.blueprint.encoding.Encoder;
 import dev.vini2003.blueprint.supplier.Supplier1;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
 import java.util.Map;
 
 @SuppressWarnings({"unchecked", "rawtypes"})
@@ -50,16 +52,32 @@ public class GenericMapBlueprint extends Blueprint<Map> {
 		
 		if (exists) {
 			try {
-				var keyClass = Class.forName(decoder.readString("KeyClass", map));
-				var valueClass = Class.forName(decoder.readString("ValueClass", map));
+				var polymorphic = decoder.readBoolean("Polymorphic", map);
 				
-				var keyBlueprint = Blueprint.of(keyClass);
-				var valueBlueprint = Blueprint.of(valueClass);
-				
-				decoder.readMap(keyBlueprint, valueBlueprint, key, map, newMap::put);
+				if (polymorphic) {
+					var keys = new ArrayList<>();
+					var values = new ArrayList<>();
+					
+					decoder.readCollection(PolymorphicBlueprint.read(decoder, "KeyClasses", "KeyTypes", map), "Keys", map, keys::add);
+					decoder.readCollection(PolymorphicBlueprint.read(decoder, "ValueClasses", "ValueTypes", map), "Values", map, values::add);
+					
+					for (var i = 0; i < Math.min(keys.size(), values.size()); ++i) {
+						newMap.put(keys.get(i), values.get(i));
+					}
+				} else {
+					var keyBlueprint = ClassDictionary.readBlueprint(decoder, "KeyClass", map);
+					var valueBlueprint = ClassDictionary.readBlueprint(decoder, "ValueClass", map);
+					
+					decoder.readMap(keyBlueprint, valueBlueprint, key, map, newMap::put);
+				}
 				
 				return newMap;
 			} catch (Exception e) {
+				// Positional formats cannot skip the rest of a value that failed to decode.
+				if (!decoder.isKeyed()) {
+					throw e;
+				}
+				
 				return newMap;
 			}
 		} else {
@@ -69,22 +87,37 @@ public class GenericMapBlueprint extends Blueprint<Map> {
 	
 	@Override
 	public <F, V> void encode(Encoder<F> encoder, @Nullable String key, V value, F object) {
-		var map = encoder.createMap(object);
+		var map = encoder.createMap(key, object);
 		
 		var valueMap = getter(value);
 		
 		if (!valueMap.isEmpty()) {
-			var entry = (Map.Entry) valueMap.entrySet().stream().findFirst().orElseThrow();
-			
-			var keyBlueprint = Blueprint.of(entry.getKey());
-			var valueBlueprint = Blueprint.of(entry.getValue());
-			
 			encoder.writeBoolean("Exists", true, map);
 			
-			encoder.writeString("KeyClass", entry.getKey().getClass().getName(), map);
-			encoder.writeString("ValueClass", entry.getValue().getClass().getName(), map);
-			
-			encoder.writeMap(keyBlueprint, valueBlueprint, key, valueMap, map);
+			if (PolymorphicBlueprint.isPolymorphic(valueMap.keySet()) || PolymorphicBlueprint.isPolymorphic(valueMap.values())) {
+				var keyBlueprint = PolymorphicBlueprint.of(valueMap.keySet());
+				var valueBlueprint = PolymorphicBlueprint.of(valueMap.values());
+				
+				encoder.writeBoolean("Polymorphic", true, map);
+				
+				keyBlueprint.write(encoder, "KeyClasses", "KeyTypes", map);
+				encoder.writeCollection(keyBlueprint, "Keys", valueMap.keySet(), map);
+				
+				valueBlueprint.write(encoder, "ValueClasses", "ValueTypes", map);
+				encoder.writeCollection(valueBlueprint, "Values", valueMap.values(), map);
+			} else {
+				var entry = (Map.Entry) valueMap.entrySet().stream().findFirst().orElseThrow();
+				
+				var keyBlueprint = Blueprint.of(entry.getKey());
+				var valueBlueprint = Blueprint.of(entry.getValue());
+				
+				encoder.writeBoolean("Polymorphic", false, map);
+				
+				ClassDictionary.writeClass(encoder, "KeyClass", entry.getKey().getClass(), map);
+				ClassDictionary.writeClass(encoder, "ValueClass", entry.getValue().getClass(), map);
+				
+				encoder.writeMap(keyBlueprint, valueBlueprint, key, valueMap, map);
+			}
 		} else {
 			encoder.writeBoolean("Exists", false, map);
 		}
@@ -25,6 +25,7 @@
 package dev.vini2003.blueprint.generic;
 
 import dev.vini2003.blueprint.Blueprint;
+import dev.vini2003.blueprint.encoding.ClassDictionary;
 import dev.vini2003.blueprint.encoding.Decoder;
 import dev.vini2003.blueprint.encoding.Encoder;
 import org.jetbrains.annotations.Nullable;
@@ -41,22 +42,25 @@ public class GenericOptionalBlueprint extends Blueprint<Optional> {
 		
 		if (exists) {
 			try {
-				var valueClass = Class.forName(decoder.readString("Class", map));
+				var valueBlueprint = ClassDictionary.readBlueprint(decoder, "Class", map);
 				
-				var valueBlueprint = Blueprint.of(valueClass);
-				
-				return setter(Optional.of(valueBlueprint.decode(decoder, "Value", map)), instance);
+				return Optional.of(valueBlueprint.decode(decoder, "Value", map));
 			} catch (Exception e) {
-				return setter(Optional.empty(), instance);
+				// Positional formats cannot skip the rest of a value that failed to decode.
+				if (!decoder.isKeyed()) {
+					throw e;
+				}
+				
+				return Optional.empty();
 			}
 		} else {
-			return setter(Optional.empty(), instance);
+			return Optional.empty();
 		}
 	}
 	
 	@Override
 	public <F, V> void encode(Encoder<F> encoder, @Nullable String key, V value, F object) {
-		var map = encoder.createMap(object);
+		var map = encoder.createMap(key, object);
 		
 		var valueOptional = getter(value);
 		
@@ -67,7 +71,7 @@ public class GenericOptionalBlueprint extends Blueprint<Optional> {
 			
 			encoder.writeBoolean("Exists", true, map);
 			
-			encoder.writeString("Class", entry.getClass().getName(), map);
+			ClassDictionary.writeClass(encoder, "Class", entry.getClass(), map);
 			
 			blueprint.encode(encoder, "Value", entry, map);
 		} else {
@@ -0,0 +1,177 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 - 2022 vini2003
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.vini2003.blueprint.generic;
+
+import dev.vini2003.blueprint.Blueprint;
+import dev.vini2003.blueprint.encoding.ClassDictionary;
+import dev.vini2003.blueprint.encoding.ClassResolver;
+import dev.vini2003.blueprint.encoding.Decoder;
+import dev.vini2003.blueprint.encoding.Encoder;
+import dev.vini2003.blueprint.exception.BlueprintException;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+
+@SuppressWarnings({"unchecked", "rawtypes"})
+public class PolymorphicBlueprint extends Blueprint<Object> {
+	private static final Blueprint<Class> CLASS = new Blueprint<>() {
+		@Override
+		public <F, I> Class decode(Decoder<F> decoder, @Nullable String key, F object, I instance) {
+			return ClassDictionary.readClass(decoder, key, object);
+		}
+		
+		@Override
+		public <F, V> void encode(Encoder<F> encoder, @Nullable String key, V value, F object) {
+			ClassDictionary.writeClass(encoder, key, getter(value), object);
+		}
+	};
+	
+	private final List<Class> clazzes;
+	private final List<Blueprint> blueprints;
+	
+	private final List<Integer> types;
+	
+	private int run = -2;
+	private int remaining = 0;
+	
+	public PolymorphicBlueprint(List<Class> clazzes, List<Blueprint> blueprints, List<Integer> types) {
+		this.clazzes = clazzes;
+		this.blueprints = blueprints;
+		this.types = types;
+	}
+	
+	public static boolean isPolymorphic(Collection<?> values) {
+		Class<?> clazz = null;
+		
+		for (var value : values) {
+			if (clazz == null) {
+				clazz = value.getClass();
+			} else {
+				if (value.getClass() != clazz) {
+					return true;
+				}
+			}
+		}
+		
+		return false;
+	}
+	
+	public static PolymorphicBlueprint of(Collection<?> values) {
+		var indices = new HashMap<Class<?>, Integer>();
+		
+		var clazzes = new ArrayList<Class>();
+		var blueprints = new ArrayList<Blueprint>();
+		
+		var types = new ArrayList<Integer>();
+		
+		Class<?> previous = null;
+		
+		for (var value : values) {
+			var clazz = value.getClass();
+			
+			if (clazz == previous) {
+				types.set(types.size() - 1, types.get(types.size() - 1) + 1);
+			} else {
+				var index = indices.get(clazz);
+				
+				if (index == null) {
+					var blueprint = Blueprint.of(clazz);
+					
+					if (blueprint == null) {
+						throw new BlueprintException("Could not resolve blueprint for class '" + clazz.getName() + "'");
+					}
+					
+					index = blueprints.size();
+					
+					indices.put(clazz, index);
+					clazzes.add(clazz);
+					blueprints.add(blueprint);
+				}
+				
+				types.add(index);
+				types.add(1);
+				
+				previous = clazz;
+			}
+		}
+		
+		return new PolymorphicBlueprint(clazzes, blueprints, types);
+	}
+	
+	public static <F> PolymorphicBlueprint read(Decoder<F> decoder, @Nullable String classesKey, @Nullable String typesKey, F object) {
+		var clazzes = new ArrayList<Class>();
+		var blueprints = new ArrayList<Blueprint>();
+		
+		var types = new ArrayList<Integer>();
+		
+		decoder.readCollection(CLASS, classesKey, object, (clazz) -> {
+			clazzes.add(clazz);
+			blueprints.add(ClassResolver.getInstance().resolveBlueprint(clazz.getName()));
+		});
+		
+		decoder.readCollection(Blueprint.INTEGER, typesKey, object, types::add);
+		
+		return new PolymorphicBlueprint(clazzes, blueprints, types);
+	}
+	
+	public <F> void write(Encoder<F> encoder, @Nullable String classesKey, @Nullable String typesKey, F object) {
+		encoder.writeCollection(CLASS, classesKey, clazzes, object);
+		encoder.writeCollection(Blueprint.INTEGER, typesKey, types, object);
+	}
+	
+	@Override
+	public <F, I> Object decode(Decoder<F> decoder, @Nullable String key, F object, I instance) {
+		return next().decode(decoder, key, object, null);
+	}
+	
+	@Override
+	public <F, V> void encode(Encoder<F> encoder, @Nullable String key, V value, F object) {
+		next().encode(encoder, key, getter(value), object);
+	}
+	
+	private Blueprint next() {
+		while (remaining == 0) {
+			run += 2;
+			
+			if (run >= types.size()) {
+				throw new BlueprintException("Ran out of types in " + this);
+			}
+			
+			remaining = types.get(run + 1);
+		}
+		
+		remaining--;
+		
+		return blueprints.get(types.get(run));
+	}
+	
+	@Override
+	public String toString() {
+		return "PolymorphicBlueprint[" + (key == null ? "None" : key) + ", " + clazzes + "]";
+	}
+}
@@ -0,0 +1,98 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 - 2022 vini2003
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.vini2003.blueprint.primitive;
+
+import dev.vini2003.blueprint.Blueprint;
+import dev.vini2003.blueprint.consumer.ObjBooleanConsumer2;
+import dev.vini2003.blueprint.encoding.Decoder;
+import dev.vini2003.blueprint.encoding.Encoder;
+import dev.vini2003.blueprint.function.ToBooleanFunction1;
+import org.jetbrains.annotations.Nullable;
+
+public class BooleanBlueprint extends Blueprint<Boolean> {
+	private final ToBooleanFunction1<Object> booleanGetter;
+	private final ObjBooleanConsumer2<Object> booleanSetter;
+	
+	public BooleanBlueprint() {
+		this(null, null, null);
+	}
+	
+	@SuppressWarnings("unchecked")
+	public BooleanBlueprint(@Nullable ToBooleanFunction1<?> booleanGetter, @Nullable ObjBooleanConsumer2<?> booleanSetter, @Nullable String key) {
+		this.booleanGetter = (ToBooleanFunction1<Object>) booleanGetter;
+		this.booleanSetter = (ObjBooleanConsumer2<Object>) booleanSetter;
+		
+		this.key = key;
+	}
+	
+	public <O> BooleanBlueprint getBoolean(ToBooleanFunction1<O> booleanGetter) {
+		return new BooleanBlueprint(booleanGetter, booleanSetter, key);
+	}
+	
+	public <O> BooleanBlueprint setBoolean(ObjBooleanConsumer2<O> booleanSetter) {
+		return new BooleanBlueprint(booleanGetter, booleanSetter, key);
+	}
+	
+	@Override
+	public BooleanBlueprint key(String key) {
+		return new BooleanBlueprint(booleanGetter, booleanSetter, key);
+	}
+	
+	@Override
+	public <F, I> Boolean decode(Decoder<F> decoder, @Nullable String key, F object, I instance) {
+		return decodeBoolean(decoder, key, object, instance);
+	}
+	
+	public <F, I> boolean decodeBoolean(Decoder<F> decoder, @Nullable String key, F object, I instance) {
+		return decoder.readBoolean(this.key != null ? this.key : key, object);
+	}
+	
+	@Override
+	public <F, V> void encode(Encoder<F> encoder, @Nullable String key, V value, F object) {
+		encoder.writeBoolean(this.key != null ? this.key : key, applyBoolean(value), object);
+	}
+	
+	@Override
+	public <V> Boolean extract(V value) {
+		return applyBoolean(value);
+	}
+	
+	public <V> boolean applyBoolean(V value) {
+		return booleanGetter != null ? booleanGetter.apply(value) : getter(value);
+	}
+	
+	@Override
+	public <V, I> V setter(V value, I instance) {
+		acceptBoolean(instance, (Boolean) value);
+		
+		return value;
+	}
+	
+	public <I> void acceptBoolean(I instance, boolean value) {
+		if (instance != null && booleanSetter != null) {
+			booleanSetter.accept(instance, value);
+		}
+	}
+}
@@ -0,0 +1,98 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 - 2022 vini2003
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.vini2003.blueprint.primitive;
+
+import dev.vini2003.blueprint.Blueprint;
+import dev.vini2003.blueprint.consumer.ObjByteConsumer2;
+import dev.vini2003.blueprint.encoding.Decoder;
+import dev.vini2003.blueprint.encoding.Encoder;
+import dev.vini2003.blueprint.function.ToByteFunction1;
+import org.jetbrains.annotations.Nullable;
+
+public class ByteBlueprint extends Blueprint<Byte> {
+	private final ToByteFunction1<Object> byteGetter;
+	private final ObjByteConsumer2<Object> byteSetter;
+	
+	public ByteBlueprint() {
+		this(null, null, null);
+	}
+	
+	@SuppressWarnings("unchecked")
+	public ByteBlueprint(@Nullable ToByteFunction1<?> byteGetter, @Nullable ObjByteConsumer2<?> byteSetter, @Nullable String key) {
+		this.byteGetter = (ToByteFunction1<Object>) byteGetter;
+		this.byteSetter = (ObjByteConsumer2<Object>) byteSetter;
+		
+		this.key = key;
+	}
+	
+	public <O> ByteBlueprint getByte(ToByteFunction1<O> byteGetter) {
+		return new ByteBlueprint(byteGetter, byteSetter, key);
+	}
+	
+	public <O> ByteBlueprint setByte(ObjByteConsumer2<O> byteSetter) {
+		return new ByteBlueprint(byteGetter, byteSetter, key);
+	}
+	
+	@Override
+	public ByteBlueprint key(String key) {
+		return new ByteBlueprint(byteGetter, byteSetter, key);
+	}
+	
+	@Override
+	public <F, I> Byte decode(Decoder<F> decoder, @Nullable String key, F object, I instance) {
+		return decodeByte(decoder, key, object, instance);
+	}
+	
+	public <F, I> byte decodeByte(Decoder<F> decoder, @Nullable String key, F object, I instance) {
+		return decoder.readByte(this.key != null ? this.key : key, object);
+	}
+	
+	@Override
+	public <F, V> void encode(Encoder<F> encoder, @Nullable String key, V value, F object) {
+		encoder.writeByte(this.key != null ? this.key : key, applyByte(value), object);
+	}
+	
+	@Override
+	public <V> Byte extract(V value) {
+		return applyByte(value);
+	}
+	
+	public <V> byte applyByte(V value) {
+		return byteGetter != null ? byteGetter.apply(value) : getter(value);
+	}
+	
+	@Override
+	public <V, I> V setter(V value, I instance) {
+		acceptByte(instance, (Byte) value);
+		
+		return value;
+	}
+	
+	public <I> void acceptByte(I instance, byte value) {
+		if (instance != null && byteSetter != null) {
+			byteSetter.accept(instance, value);
+		}
+	}
+}
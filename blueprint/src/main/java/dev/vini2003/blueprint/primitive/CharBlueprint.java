@@ -0,0 +1,98 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 - 2022 vini2003
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.vini2003.blueprint.primitive;
+
+import dev.vini2003.blueprint.Blueprint;
+import dev.vini2003.blueprint.consumer.ObjCharConsumer2;
+import dev.vini2003.blueprint.encoding.Decoder;
+import dev.vini2003.blueprint.encoding.Encoder;
+import dev.vini2003.blueprint.function.ToCharFunction1;
+import org.jetbrains.annotations.Nullable;
+
+public class CharBlueprint extends Blueprint<Character> {
+	private final ToCharFunction1<Object> charGetter;
+	private final ObjCharConsumer2<Object> charSetter;
+	
+	public CharBlueprint() {
+		this(null, null, null);
+	}
+	
+	@SuppressWarnings("unchecked")
+	public CharBlueprint(@Nullable ToCharFunction1<?> charGetter, @Nullable ObjCharConsumer2<?> charSetter, @Nullable String key) {
+		this.charGetter = (ToCharFunction1<Object>) charGetter;
+		this.charSetter = (ObjCharConsumer2<Object>) charSetter;
+		
+		this.key = key;
+	}
+	
+	public <O> CharBlueprint getChar(ToCharFunction1<O> charGetter) {
+		return new CharBlueprint(charGetter, charSetter, key);
+	}
+	
+	public <O> CharBlueprint setChar(ObjCharConsumer2<O> charSetter) {
+		return new CharBlueprint(charGetter, charSetter, key);
+	}
+	
+	@Override
+	public CharBlueprint key(String key) {
+		return new CharBlueprint(charGetter, charSetter, key);
+	}
+	
+	@Override
+	public <F, I> Character decode(Decoder<F> decoder, @Nullable String key, F object, I instance) {
+		return decodeChar(decoder, key, object, instance);
+	}
+	
+	public <F, I> char decodeChar(Decoder<F> decoder, @Nullable String key, F object, I instance) {
+		return decoder.readChar(this.key != null ? this.key : key, object);
+	}
+	
+	@Override
+	public <F, V> void encode(Encoder<F> encoder, @Nullable String key, V value, F object) {
+		encoder.writeChar(this.key != null ? this.key : key, applyChar(value), object);
+	}
+	
+	@Override
+	public <V> Character extract(V value) {
+		return applyChar(value);
+	}
+	
+	public <V> char applyChar(V value) {
+		return charGetter != null ? charGetter.apply(value) : getter(value);
+	}
+	
+	@Override
+	public <V, I> V setter(V value, I instance) {
+		acceptChar(instance, (Character) value);
+		
+		return value;
+	}
+	
+	public <I> void acceptChar(I instance, char value) {
+		if (instance != null && charSetter != null) {
+			charSetter.accept(instance, value);
+		}
+	}
+}
@@ -0,0 +1,98 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 - 2022 vini2003
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.vini2003.blueprint.primitive;
+
+import dev.vini2003.blueprint.Blueprint;
+import dev.vini2003.blueprint.consumer.ObjDoubleConsumer2;
+import dev.vini2003.blueprint.encoding.Decoder;
+import dev.vini2003.blueprint.encoding.Encoder;
+import dev.vini2003.blueprint.function.ToDoubleFunction1;
+import org.jetbrains.annotations.Nullable;
+
+public class DoubleBlueprint extends Blueprint<Double> {
+	private final ToDoubleFunction1<Object> doubleGetter;
+	private final ObjDoubleConsumer2<Object> doubleSetter;
+	
+	public DoubleBlueprint() {
+		this(null, null, null);
+	}
+	
+	@SuppressWarnings("unchecked")
+	public DoubleBlueprint(@Nullable ToDoubleFunction1<?> doubleGetter, @Nullable ObjDoubleConsumer2<?> doubleSetter, @Nullable String key) {
+		this.doubleGetter = (ToDoubleFunction1<Object>) doubleGetter;
+		this.doubleSetter = (ObjDoubleConsumer2<Object>) doubleSetter;
+		
+		this.key = key;
+	}
+	
+	public <O> DoubleBlueprint getDouble(ToDoubleFunction1<O> doubleGetter) {
+		return new DoubleBlueprint(doubleGetter, doubleSetter, key);
+	}
+	
+	public <O> DoubleBlueprint setDouble(ObjDoubleConsumer2<O> doubleSetter) {
+		return new DoubleBlueprint(doubleGetter, doubleSetter, key);
+	}
+	
+	@Override
+	public DoubleBlueprint key(String key) {
+		return new DoubleBlueprint(doubleGetter, doubleSetter, key);
+	}
+	
+	@Override
+	public <F, I> Double decode(Decoder<F> decoder, @Nullable String key, F object, I instance) {
+		return decodeDouble(decoder, key, object, instance);
+	}
+	
+	public <F, I> double decodeDouble(Decoder<F> decoder, @Nullable String key, F object, I instance) {
+		return decoder.readDouble(this.key != null ? this.key : key, object);
+	}
+	
+	@Override
+	public <F, V> void encode(Encoder<F> encoder, @Nullable String key, V value, F object) {
+		encoder.writeDouble(this.key != null ? this.key : key, applyDouble(value), object);
+	}
+	
+	@Override
+	public <V> Double extract(V value) {
+		return applyDouble(value);
+	}
+	
+	public <V> double applyDouble(V value) {
+		return doubleGetter != null ? doubleGetter.apply(value) : getter(value);
+	}
+	
+	@Override
+	public <V, I> V setter(V value, I instance) {
+		acceptDouble(instance, (Double) value);
+		
+		return value;
+	}
+	
+	public <I> void acceptDouble(I instance, double value) {
+		if (instance != null && doubleSetter != null) {
+			doubleSetter.accept(instance, value);
+		}
+	}
+}
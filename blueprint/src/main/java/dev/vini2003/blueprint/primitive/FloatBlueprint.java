@@ -0,0 +1,98 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 - 2022 vini2003
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.vini2003.blueprint.primitive;
+
+import dev.vini2003.blueprint.Blueprint;
+import dev.vini2003.blueprint.consumer.ObjFloatConsumer2;
+import dev.vini2003.blueprint.encoding.Decoder;
+import dev.vini2003.blueprint.encoding.Encoder;
+import dev.vini2003.blueprint.function.ToFloatFunction1;
+import org.jetbrains.annotations.Nullable;
+
+public class FloatBlueprint extends Blueprint<Float> {
+	private final ToFloatFunction1<Object> floatGetter;
+	private final ObjFloatConsumer2<Object> floatSetter;
+	
+	public FloatBlueprint() {
+		this(null, null, null);
+	}
+	
+	@SuppressWarnings("unchecked")
+	public FloatBlueprint(@Nullable ToFloatFunction1<?> floatGetter, @Nullable ObjFloatConsumer2<?> floatSetter, @Nullable String key) {
+		this.floatGetter = (ToFloatFunction1<Object>) floatGetter;
+		this.floatSetter = (ObjFloatConsumer2<Object>) floatSetter;
+		
+		this.key = key;
+	}
+	
+	public <O> FloatBlueprint getFloat(ToFloatFunction1<O> floatGetter) {
+		return new FloatBlueprint(floatGetter, floatSetter, key);
+	}
+	
+	public <O> FloatBlueprint setFloat(ObjFloatConsumer2<O> floatSetter) {
+		return new FloatBlueprint(floatGetter, floatSetter, key);
+	}
+	
+	@Override
+	public FloatBlueprint key(String key) {
+		return new FloatBlueprint(floatGetter, floatSetter, key);
+	}
+	
+	@Override
+	public <F, I> Float decode(Decoder<F> decoder, @Nullable String key, F object, I instance) {
+		return decodeFloat(decoder, key, object, instance);
+	}
+	
+	public <F, I> float decodeFloat(Decoder<F> decoder, @Nullable String key, F object, I instance) {
+		return decoder.readFloat(this.key != null ? this.key : key, object);
+	}
+	
+	@Override
+	public <F, V> void encode(Encoder<F> encoder, @Nullable String key, V value, F object) {
+		encoder.writeFloat(this.key != null ? this.key : key, applyFloat(value), object);
+	}
+	
+	@Override
+	public <V> Float extract(V value) {
+		return applyFloat(value);
+	}
+	
+	public <V> float applyFloat(V value) {
+		return floatGetter != null ? floatGetter.apply(value) : getter(value);
+	}
+	
+	@Override
+	public <V, I> V setter(V value, I instance) {
+		acceptFloat(instance, (Float) value);
+		
+		return value;
+	}
+	
+	public <I> void acceptFloat(I instance, float value) {
+		if (instance != null && floatSetter != null) {
+			floatSetter.accept(instance, value);
+		}
+	}
+}
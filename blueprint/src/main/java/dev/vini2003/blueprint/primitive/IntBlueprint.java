@@ -0,0 +1,98 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 - 2022 vini2003
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.vini2003.blueprint.primitive;
+
+import dev.vini2003.blueprint.Blueprint;
+import dev.vini2003.blueprint.consumer.ObjIntConsumer2;
+import dev.vini2003.blueprint.encoding.Decoder;
+import dev.vini2003.blueprint.encoding.Encoder;
+import dev.vini2003.blueprint.function.ToIntFunction1;
+import org.jetbrains.annotations.Nullable;
+
+public class IntBlueprint extends Blueprint<Integer> {
+	private final ToIntFunction1<Object> intGetter;
+	private final ObjIntConsumer2<Object> intSetter;
+	
+	public IntBlueprint() {
+		this(null, null, null);
+	}
+	
+	@SuppressWarnings("unchecked")
+	public IntBlueprint(@Nullable ToIntFunction1<?> intGetter, @Nullable ObjIntConsumer2<?> intSetter, @Nullable String key) {
+		this.intGetter = (ToIntFunction1<Object>) intGetter;
+		this.intSetter = (ObjIntConsumer2<Object>) intSetter;
+		
+		this.key = key;
+	}
+	
+	public <O> IntBlueprint getInt(ToIntFunction1<O> intGetter) {
+		return new IntBlueprint(intGetter, intSetter, key);
+	}
+	
+	public <O> IntBlueprint setInt(ObjIntConsumer2<O> intSetter) {
+		return new IntBlueprint(intGetter, intSetter, key);
+	}
+	
+	@Override
+	public IntBlueprint key(String key) {
+		return new IntBlueprint(intGetter, intSetter, key);
+	}
+	
+	@Override
+	public <F, I> Integer decode(Decoder<F> decoder, @Nullable String key, F object, I instance) {
+		return decodeInt(decoder, key, object, instance);
+	}
+	
+	public <F, I> int decodeInt(Decoder<F> decoder, @Nullable String key, F object, I instance) {
+		return decoder.readInt(this.key != null ? this.key : key, object);
+	}
+	
+	@Override
+	public <F, V> void encode(Encoder<F> encoder, @Nullable String key, V value, F object) {
+		encoder.writeInt(this.key != null ? this.key : key, applyInt(value), object);
+	}
+	
+	@Override
+	public <V> Integer extract(V value) {
+		return applyInt(value);
+	}
+	
+	public <V> int applyInt(V value) {
+		return intGetter != null ? intGetter.apply(value) : getter(value);
+	}
+	
+	@Override
+	public <V, I> V setter(V value, I instance) {
+		acceptInt(instance, (Integer) value);
+		
+		return value;
+	}
+	
+	public <I> void acceptInt(I instance, int value) {
+		if (instance != null && intSetter != null) {
+			intSetter.accept(instance, value);
+		}
+	}
+}
@@ -0,0 +1,98 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 - 2022 vini2003
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.vini2003.blueprint.primitive;
+
+import dev.vini2003.blueprint.Blueprint;
+import dev.vini2003.blueprint.consumer.ObjLongConsumer2;
+import dev.vini2003.blueprint.encoding.Decoder;
+import dev.vini2003.blueprint.encoding.Encoder;
+import dev.vini2003.blueprint.function.ToLongFunction1;
+import org.jetbrains.annotations.Nullable;
+
+public class LongBlueprint extends Blueprint<Long> {
+	private final ToLongFunction1<Object> longGetter;
+	private final ObjLongConsumer2<Object> longSetter;
+	
+	public LongBlueprint() {
+		this(null, null, null);
+	}
+	
+	@SuppressWarnings("unchecked")
+	public LongBlueprint(@Nullable ToLongFunction1<?> longGetter, @Nullable ObjLongConsumer2<?> longSetter, @Nullable String key) {
+		this.longGetter = (ToLongFunction1<Object>) longGetter;
+		this.longSetter = (ObjLongConsumer2<Object>) longSetter;
+		
+		this.key = key;
+	}
+	
+	public <O> LongBlueprint getLong(ToLongFunction1<O> longGetter) {
+		return new LongBlueprint(longGetter, longSetter, key);
+	}
+	
+	public <O> LongBlueprint setLong(ObjLongConsumer2<O> longSetter) {
+		return new LongBlueprint(longGetter, longSetter, key);
+	}
+	
+	@Override
+	public LongBlueprint key(String key) {
+		return new LongBlueprint(longGetter, longSetter, key);
+	}
+	
+	@Override
+	public <F, I> Long decode(Decoder<F> decoder, @Nullable String key, F object, I instance) {
+		return decodeLong(decoder, key, object, instance);
+	}
+	
+	public <F, I> long decodeLong(Decoder<F> decoder, @Nullable String key, F object, I instance) {
+		return decoder.readLong(this.key != null ? this.key : key, object);
+	}
+	
+	@Override
+	public <F, V> void encode(Encoder<F> encoder, @Nullable String key, V value, F object) {
+		encoder.writeLong(this.key != null ? this.key : key, applyLong(value), object);
+	}
+	
+	@Override
+	public <V> Long extract(V value) {
+		return applyLong(value);
+	}
+	
+	public <V> long applyLong(V value) {
+		return longGetter != null ? longGetter.apply(value) : getter(value);
+	}
+	
+	@Override
+	public <V, I> V setter(V value, I instance) {
+		acceptLong(instance, (Long) value);
+		
+		return value;
+	}
+	
+	public <I> void acceptLong(I instance, long value) {
+		if (instance != null && longSetter != null) {
+			longSetter.accept(instance, value);
+		}
+	}
+}
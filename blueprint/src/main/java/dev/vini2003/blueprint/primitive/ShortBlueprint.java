@@ -0,0 +1,98 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 - 2022 vini2003
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.vini2003.blueprint.primitive;
+
+import dev.vini2003.blueprint.Blueprint;
+import dev.vini2003.blueprint.consumer.ObjShortConsumer2;
+import dev.vini2003.blueprint.encoding.Decoder;
+import dev.vini2003.blueprint.encoding.Encoder;
+import dev.vini2003.blueprint.function.ToShortFunction1;
+import org.jetbrains.annotations.Nullable;
+
+public class ShortBlueprint extends Blueprint<Short> {
+	private final ToShortFunction1<Object> shortGetter;
+	private final ObjShortConsumer2<Object> shortSetter;
+	
+	public ShortBlueprint() {
+		this(null, null, null);
+	}
+	
+	@SuppressWarnings("unchecked")
+	public ShortBlueprint(@Nullable ToShortFunction1<?> shortGetter, @Nullable ObjShortConsumer2<?> shortSetter, @Nullable String key) {
+		this.shortGetter = (ToShortFunction1<Object>) shortGetter;
+		this.shortSetter = (ObjShortConsumer2<Object>) shortSetter;
+		
+		this.key = key;
+	}
+	
+	public <O> ShortBlueprint getShort(ToShortFunction1<O> shortGetter) {
+		return new ShortBlueprint(shortGetter, shortSetter, key);
+	}
+	
+	public <O> ShortBlueprint setShort(ObjShortConsumer2<O> shortSetter) {
+		return new ShortBlueprint(shortGetter, shortSetter, key);
+	}
+	
+	@Override
+	public ShortBlueprint key(String key) {
+		return new ShortBlueprint(shortGetter, shortSetter, key);
+	}
+	
+	@Override
+	public <F, I> Short decode(Decoder<F> decoder, @Nullable String key, F object, I instance) {
+		return decodeShort(decoder, key, object, instance);
+	}
+	
+	public <F, I> short decodeShort(Decoder<F> decoder, @Nullable String key, F object, I instance) {
+		return decoder.readShort(this.key != null ? this.key : key, object);
+	}
+	
+	@Override
+	public <F, V> void encode(Encoder<F> encoder, @Nullable String key, V value, F object) {
+		encoder.writeShort(this.key != null ? this.key : key, applyShort(value), object);
+	}
+	
+	@Override
+	public <V> Short extract(V value) {
+		return applyShort(value);
+	}
+	
+	public <V> short applyShort(V value) {
+		return shortGetter != null ? shortGetter.apply(value) : getter(value);
+	}
+	
+	@Override
+	public <V, I> V setter(V value, I instance) {
+		acceptShort(instance, (Short) value);
+		
+		return value;
+	}
+	
+	public <I> void acceptShort(I instance, short value) {
+		if (instance != null && shortSetter != null) {
+			shortSetter.accept(instance, value);
+		}
+	}
+}
@@ -0,0 +1,146 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 - 2022 vini2003
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.vini2003.blueprint.util;
+
+import dev.vini2003.blueprint.consumer.Consumer2;
+import dev.vini2003.blueprint.exception.BlueprintException;
+import dev.vini2003.blueprint.function.Function1;
+import dev.vini2003.blueprint.supplier.Supplier1;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.invoke.LambdaConversionException;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+
+public class AccessorUtil {
+	@Nullable
+	@SuppressWarnings("unchecked")
+	public static <R> Supplier1<@Nullable R> createConstructor(Constructor<?> constructor) {
+		if (constructor == null) {
+			return null;
+		}
+		
+		try {
+			var lookup = lookup(constructor.getDeclaringClass());
+			var handle = lookup.unreflectConstructor(constructor);
+			
+			return (Supplier1<R>) metafactory(lookup, Supplier1.class, "get", MethodType.methodType(Object.class), handle, handle.type());
+		} catch (ReflectiveOperationException | LambdaConversionException | IllegalArgumentException e) {
+			return FunctionUtil.wrapConstructor(constructor);
+		}
+	}
+	
+	@Nullable
+	@SuppressWarnings("unchecked")
+	public static <O, T> Function1<O, T> createGetter(Method getter) {
+		if (getter == null) {
+			return null;
+		}
+		
+		try {
+			var lookup = lookup(getter.getDeclaringClass());
+			var handle = lookup.unreflect(getter);
+			
+			return (Function1<O, T>) metafactory(lookup, Function1.class, "apply", MethodType.methodType(Object.class, Object.class), handle, handle.type().wrap());
+		} catch (ReflectiveOperationException | LambdaConversionException | IllegalArgumentException e) {
+			return FunctionUtil.wrapGetter(getter);
+		}
+	}
+	
+	@Nullable
+	@SuppressWarnings("unchecked")
+	public static <O, T> Consumer2<O, T> createSetter(Method setter) {
+		if (setter == null) {
+			return null;
+		}
+		
+		try {
+			var lookup = lookup(setter.getDeclaringClass());
+			var handle = lookup.unreflect(setter);
+			
+			return (Consumer2<O, T>) metafactory(lookup, Consumer2.class, "accept", MethodType.methodType(void.class, Object.class, Object.class), handle, handle.type().wrap().changeReturnType(void.class));
+		} catch (ReflectiveOperationException | LambdaConversionException | IllegalArgumentException e) {
+			return FunctionUtil.wrapSetter(setter);
+		}
+	}
+	
+	@Nullable
+	@SuppressWarnings("unchecked")
+	public static <G> G createGetter(Method getter, Class<G> getterClazz) {
+		if (getter == null) {
+			return null;
+		}
+		
+		try {
+			var lookup = lookup(getter.getDeclaringClass());
+			var handle = lookup.unreflect(getter);
+			
+			return (G) metafactory(lookup, getterClazz, "apply", MethodType.methodType(getter.getReturnType(), Object.class), handle, handle.type());
+		} catch (ReflectiveOperationException | LambdaConversionException | IllegalArgumentException e) {
+			return null;
+		}
+	}
+	
+	@Nullable
+	@SuppressWarnings("unchecked")
+	public static <S> S createSetter(Method setter, Class<S> setterClazz) {
+		if (setter == null) {
+			return null;
+		}
+		
+		try {
+			var lookup = lookup(setter.getDeclaringClass());
+			var handle = lookup.unreflect(setter);
+			
+			return (S) metafactory(lookup, setterClazz, "accept", MethodType.methodType(void.class, Object.class, setter.getParameterTypes()[0]), handle, handle.type().changeReturnType(void.class));
+		} catch (ReflectiveOperationException | LambdaConversionException | IllegalArgumentException e) {
+			return null;
+		}
+	}
+	
+	private static MethodHandles.Lookup lookup(Class<?> clazz) {
+		try {
+			return MethodHandles.privateLookupIn(clazz, MethodHandles.lookup());
+		} catch (IllegalAccessException | SecurityException e) {
+			return MethodHandles.lookup();
+		}
+	}
+	
+	private static Object metafactory(MethodHandles.Lookup lookup, Class<?> interfaceClazz, String interfaceMethodName, MethodType interfaceMethodType, MethodHandle handle, MethodType instantiatedMethodType) throws LambdaConversionException {
+		var callSite = LambdaMetafactory.metafactory(lookup, interfaceMethodName, MethodType.methodType(interfaceClazz), interfaceMethodType, handle, instantiatedMethodType);
+		
+		try {
+			return callSite.getTarget().invoke();
+		} catch (RuntimeException | Error e) {
+			throw e;
+		} catch (Throwable throwable) {
+			throw new BlueprintException("Could not create accessor for '" + handle + "'", throwable);
+		}
+	}
+}
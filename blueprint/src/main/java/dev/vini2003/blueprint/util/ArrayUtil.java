@@ -0,0 +1,223 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 - 2022 vini2003
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.vini2003.blueprint.util;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+public class ArrayUtil {
+	public static List<Integer> asList(int[] array) {
+		return new IntArrayList(array);
+	}
+	
+	public static int[] toIntArray(List<Integer> list) {
+		var array = new int[list.size()];
+		
+		for (var i = 0; i < array.length; ++i) {
+			array[i] = list.get(i);
+		}
+		
+		return array;
+	}
+	
+	public static List<Long> asList(long[] array) {
+		return new LongArrayList(array);
+	}
+	
+	public static long[] toLongArray(List<Long> list) {
+		var array = new long[list.size()];
+		
+		for (var i = 0; i < array.length; ++i) {
+			array[i] = list.get(i);
+		}
+		
+		return array;
+	}
+	
+	public static List<Float> asList(float[] array) {
+		return new FloatArrayList(array);
+	}
+	
+	public static float[] toFloatArray(List<Float> list) {
+		var array = new float[list.size()];
+		
+		for (var i = 0; i < array.length; ++i) {
+			array[i] = list.get(i);
+		}
+		
+		return array;
+	}
+	
+	public static List<Double> asList(double[] array) {
+		return new DoubleArrayList(array);
+	}
+	
+	public static double[] toDoubleArray(List<Double> list) {
+		var array = new double[list.size()];
+		
+		for (var i = 0; i < array.length; ++i) {
+			array[i] = list.get(i);
+		}
+		
+		return array;
+	}
+	
+	public static List<Byte> asList(byte[] array) {
+		return new ByteArrayList(array);
+	}
+	
+	public static byte[] toByteArray(List<Byte> list) {
+		var array = new byte[list.size()];
+		
+		for (var i = 0; i < array.length; ++i) {
+			array[i] = list.get(i);
+		}
+		
+		return array;
+	}
+	
+	public static List<Short> asList(short[] array) {
+		return new ShortArrayList(array);
+	}
+	
+	public static short[] toShortArray(List<Short> list) {
+		var array = new short[list.size()];
+		
+		for (var i = 0; i < array.length; ++i) {
+			array[i] = list.get(i);
+		}
+		
+		return array;
+	}
+	
+	private static class IntArrayList extends AbstractList<Integer> implements RandomAccess {
+		private final int[] array;
+		
+		private IntArrayList(int[] array) {
+			this.array = array;
+		}
+		
+		@Override
+		public Integer get(int index) {
+			return array[index];
+		}
+		
+		@Override
+		public int size() {
+			return array.length;
+		}
+	}
+	
+	private static class LongArrayList extends AbstractList<Long> implements RandomAccess {
+		private final long[] array;
+		
+		private LongArrayList(long[] array) {
+			this.array = array;
+		}
+		
+		@Override
+		public Long get(int index) {
+			return array[index];
+		}
+		
+		@Override
+		public int size() {
+			return array.length;
+		}
+	}
+	
+	private static class FloatArrayList extends AbstractList<Float> implements RandomAccess {
+		private final float[] array;
+		
+		private FloatArrayList(float[] array) {
+			this.array = array;
+		}
+		
+		@Override
+		public Float get(int index) {
+			return array[index];
+		}
+		
+		@Override
+		public int size() {
+			return array.length;
+		}
+	}
+	
+	private static class DoubleArrayList extends AbstractList<Double> implements RandomAccess {
+		private final double[] array;
+		
+		private DoubleArrayList(double[] array) {
+			this.array = array;
+		}
+		
+		@Override
+		public Double get(int index) {
+			return array[index];
+		}
+		
+		@Override
+		public int size() {
+			return array.length;
+		}
+	}
+	
+	private static class ByteArrayList extends AbstractList<Byte> implements RandomAccess {
+		private final byte[] array;
+		
+		private ByteArrayList(byte[] array) {
+			this.array = array;
+		}
+		
+		@Override
+		public Byte get(int index) {
+			return array[index];
+		}
+		
+		@Override
+		public int size() {
+			return array.length;
+		}
+	}
+	
+	private static class ShortArrayList extends AbstractList<Short> implements RandomAccess {
+		private final short[] array;
+		
+		private ShortArrayList(short[] array) {
+			this.array = array;
+		}
+		
+		@Override
+		public Short get(int index) {
+			return array[index];
+		}
+		
+		@Override
+		public int size() {
+			return array.length;
+		}
+	}
+}
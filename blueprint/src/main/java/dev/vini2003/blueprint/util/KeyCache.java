@@ -0,0 +1,65 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 - 2022 vini2003
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.vini2003.blueprint.util;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class KeyCache {
+	private static final int MAX_SIZE = 64;
+	
+	private final String nullKey;
+	private final String suffix;
+	
+	private final Map<String, String> derivedKeys = new ConcurrentHashMap<>();
+	
+	public KeyCache(String nullKey, String suffix) {
+		this.nullKey = nullKey;
+		this.suffix = suffix;
+	}
+	
+	public String get(@Nullable String key) {
+		if (key == null) {
+			return nullKey;
+		}
+		
+		var derivedKey = derivedKeys.get(key);
+		
+		if (derivedKey != null) {
+			return derivedKey;
+		}
+		
+		derivedKey = key + suffix;
+		
+		// Keys can come from map entries, so stop caching past a handful of parents.
+		if (derivedKeys.size() < MAX_SIZE) {
+			derivedKeys.putIfAbsent(key, derivedKey);
+		}
+		
+		return derivedKey;
+	}
+}
@@ -0,0 +1,349 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 - 2022 vini2003
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.vini2003.blueprint;
+
+import dev.vini2003.blueprint.annotation.Blueprintable;
+import dev.vini2003.blueprint.buffer.ByteBufferParser;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BlueprintDeriveTest {
+	private static final int THREADS = 16;
+	
+	@Test
+	public void concurrentDeriveReturnsSameInstance() throws Exception {
+		var results = deriveConcurrently(Alpha.class, Beta.class, Gamma.class);
+		
+		for (var result : results) {
+			assertNotNull(result[0]);
+			
+			assertSame(results.get(0)[0], result[0]);
+			assertSame(results.get(0)[1], result[1]);
+			assertSame(results.get(0)[2], result[2]);
+		}
+	}
+	
+	@Test
+	public void concurrentDeriveProducesWorkingBlueprints() throws Exception {
+		var results = deriveConcurrently(Left.class, Right.class);
+		
+		Blueprint<Left> blueprint = Blueprint.of(Left.class);
+		
+		assertSame(results.get(0)[0], blueprint);
+		
+		var left = new Left("root", List.of(new Right(1, List.of(new Left("leaf", List.of()))), new Right(2, List.of())));
+		
+		var decoded = ByteBufferParser.INSTANCE.decode(blueprint, ByteBufferParser.INSTANCE.encode(blueprint, left));
+		
+		assertEquals("root", decoded.getName());
+		assertEquals(2, decoded.getRights().size());
+		assertEquals(1, decoded.getRights().get(0).getValue());
+		assertEquals("leaf", decoded.getRights().get(0).getLefts().get(0).getName());
+		assertEquals(2, decoded.getRights().get(1).getValue());
+	}
+	
+	@Test
+	public void concurrentDeriveHandlesSelfReferentialFields() throws Exception {
+		var results = deriveConcurrently(Node.class);
+		
+		Blueprint<Node> blueprint = Blueprint.of(Node.class);
+		
+		for (var result : results) {
+			assertSame(blueprint, result[0]);
+		}
+		
+		var node = new Node(1, new Node(2, new Node(3, null)));
+		
+		var decoded = ByteBufferParser.INSTANCE.decode(blueprint, ByteBufferParser.INSTANCE.encode(blueprint, node));
+		
+		assertEquals(1, decoded.getValue());
+		assertEquals(2, decoded.getNext().getValue());
+		assertEquals(3, decoded.getNext().getNext().getValue());
+		assertNull(decoded.getNext().getNext().getNext());
+	}
+	
+	@Test
+	public void concurrentDeriveHandlesMutuallyReferentialFields() throws Exception {
+		var results = deriveConcurrently(Ping.class, Pong.class);
+		
+		Blueprint<Ping> pingBlueprint = Blueprint.of(Ping.class);
+		Blueprint<Pong> pongBlueprint = Blueprint.of(Pong.class);
+		
+		for (var result : results) {
+			assertSame(pingBlueprint, result[0]);
+			assertSame(pongBlueprint, result[1]);
+		}
+		
+		var ping = new Ping("first", new Pong(1, new Ping("second", new Pong(2, null))));
+		
+		var decoded = ByteBufferParser.INSTANCE.decode(pingBlueprint, ByteBufferParser.INSTANCE.encode(pingBlueprint, ping));
+		
+		assertEquals("first", decoded.getName());
+		assertEquals(1, decoded.getPong().getValue());
+		assertEquals("second", decoded.getPong().getPing().getName());
+		assertEquals(2, decoded.getPong().getPing().getPong().getValue());
+		assertNull(decoded.getPong().getPing().getPong().getPing());
+		
+		var pong = new Pong(3, new Ping("third", null));
+		
+		var decodedPong = ByteBufferParser.INSTANCE.decode(pongBlueprint, ByteBufferParser.INSTANCE.encode(pongBlueprint, pong));
+		
+		assertEquals(3, decodedPong.getValue());
+		assertEquals("third", decodedPong.getPing().getName());
+		assertNull(decodedPong.getPing().getPong());
+	}
+	
+	private static List<Object[]> deriveConcurrently(Class<?>... clazzes) throws Exception {
+		var executor = Executors.newFixedThreadPool(THREADS);
+		var barrier = new CyclicBarrier(THREADS);
+		
+		try {
+			var futures = new ArrayList<Future<Object[]>>();
+			
+			for (var i = 0; i < THREADS; ++i) {
+				var offset = i;
+				
+				futures.add(executor.submit((Callable<Object[]>) () -> {
+					var blueprints = new Object[clazzes.length];
+					
+					barrier.await();
+					
+					// Start each thread on a different class of the cycle.
+					for (var j = 0; j < clazzes.length; ++j) {
+						var index = (offset + j) % clazzes.length;
+						
+						blueprints[index] = Blueprint.of(clazzes[index]);
+					}
+					
+					return blueprints;
+				}));
+			}
+			
+			var results = new ArrayList<Object[]>();
+			
+			for (var future : futures) {
+				results.add(future.get());
+			}
+			
+			return results;
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+	
+	@Blueprintable
+	public static class Alpha {
+		private List<Beta> betas;
+		
+		public Alpha(List<Beta> betas) {
+			this.betas = betas;
+		}
+		
+		public List<Beta> getBetas() {
+			return betas;
+		}
+		
+		public void setBetas(List<Beta> betas) {
+			this.betas = betas;
+		}
+	}
+	
+	@Blueprintable
+	public static class Beta {
+		private List<Gamma> gammas;
+		
+		public Beta(List<Gamma> gammas) {
+			this.gammas = gammas;
+		}
+		
+		public List<Gamma> getGammas() {
+			return gammas;
+		}
+		
+		public void setGammas(List<Gamma> gammas) {
+			this.gammas = gammas;
+		}
+	}
+	
+	@Blueprintable
+	public static class Gamma {
+		private List<Alpha> alphas;
+		
+		public Gamma(List<Alpha> alphas) {
+			this.alphas = alphas;
+		}
+		
+		public List<Alpha> getAlphas() {
+			return alphas;
+		}
+		
+		public void setAlphas(List<Alpha> alphas) {
+			this.alphas = alphas;
+		}
+	}
+	
+	@Blueprintable
+	public static class Left {
+		private String name;
+		private List<Right> rights;
+		
+		public Left(String name, List<Right> rights) {
+			this.name = name;
+			this.rights = rights;
+		}
+		
+		public String getName() {
+			return name;
+		}
+		
+		public void setName(String name) {
+			this.name = name;
+		}
+		
+		public List<Right> getRights() {
+			return rights;
+		}
+		
+		public void setRights(List<Right> rights) {
+			this.rights = rights;
+		}
+	}
+	
+	@Blueprintable
+	public static class Right {
+		private int value;
+		private List<Left> lefts;
+		
+		public Right(int value, List<Left> lefts) {
+			this.value = value;
+			this.lefts = lefts;
+		}
+		
+		public int getValue() {
+			return value;
+		}
+		
+		public void setValue(int value) {
+			this.value = value;
+		}
+		
+		public List<Left> getLefts() {
+			return lefts;
+		}
+		
+		public void setLefts(List<Left> lefts) {
+			this.lefts = lefts;
+		}
+	}
+	
+	@Blueprintable
+	public static class Node {
+		private int value;
+		private Node next;
+		
+		public Node(int value, Node next) {
+			this.value = value;
+			this.next = next;
+		}
+		
+		public int getValue() {
+			return value;
+		}
+		
+		public void setValue(int value) {
+			this.value = value;
+		}
+		
+		public Node getNext() {
+			return next;
+		}
+		
+		public void setNext(Node next) {
+			this.next = next;
+		}
+	}
+	
+	@Blueprintable
+	public static class Ping {
+		private String name;
+		private Pong pong;
+		
+		public Ping(String name, Pong pong) {
+			this.name = name;
+			this.pong = pong;
+		}
+		
+		public String getName() {
+			return name;
+		}
+		
+		public void setName(String name) {
+			this.name = name;
+		}
+		
+		public Pong getPong() {
+			return pong;
+		}
+		
+		public void setPong(Pong pong) {
+			this.pong = pong;
+		}
+	}
+	
+	@Blueprintable
+	public static class Pong {
+		private int value;
+		private Ping ping;
+		
+		public Pong(int value, Ping ping) {
+			this.value = value;
+			this.ping = ping;
+		}
+		
+		public int getValue() {
+			return value;
+		}
+		
+		public void setValue(int value) {
+			this.value = value;
+		}
+		
+		public Ping getPing() {
+			return ping;
+		}
+		
+		public void setPing(Ping ping) {
+			this.ping = ping;
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,156 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 - 2022 vini2003
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.vini2003.blueprint;
+
+import dev.vini2003.blueprint.annotation.Blueprintable;
+import dev.vini2003.blueprint.buffer.ByteBufferParser;
+import dev.vini2003.blueprint.function.Function2;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BlueprintInstanceTest {
+	private static final Blueprint<Foo> FOO = Blueprint.compound(
+			Blueprint.PRIMITIVE_INT.key("X").getInt(Foo::getX).setInt(Foo::setX),
+			Blueprint.STRING.key("S").get(Foo::getS),
+			(Function2<Integer, String, Foo>) Foo::new
+	);
+	
+	private static final Blueprint<Bar> BAR = Blueprint.compound(
+			FOO.key("Foo").get(Bar::getFoo),
+			Blueprint.PRIMITIVE_INT.key("Y").getInt(Bar::getY).setInt(Bar::setY),
+			(Function2<Foo, Integer, Bar>) Bar::new
+	);
+	
+	@Test
+	public void derivedNestedDecodeIgnoresInstance() {
+		Blueprint<Bar> blueprint = Blueprint.of(Bar.class);
+		
+		var encoded = ByteBufferParser.INSTANCE.encode(blueprint, new Bar(new Foo(7, "b"), 9));
+		
+		for (var candidate : new Blueprint[] { blueprint, blueprint.compile() }) {
+			var existing = new Bar(new Foo(1, "a"), 2);
+			
+			var decoded = (Bar) candidate.decode(ByteBufferParser.INSTANCE, encoded.duplicate(), existing);
+			
+			assertEquals(7, decoded.getFoo().getX());
+			assertEquals("b", decoded.getFoo().getS());
+			assertEquals(9, decoded.getY());
+			
+			assertEquals(1, existing.getFoo().getX());
+			assertEquals("a", existing.getFoo().getS());
+			assertEquals(2, existing.getY());
+		}
+	}
+	
+	@Test
+	public void fieldSettersApplyToOwnInstance() {
+		var encoded = ByteBufferParser.INSTANCE.encode(BAR, new Bar(new Foo(7, "b"), 9));
+		
+		for (var candidate : new Blueprint[] { BAR, BAR.compile() }) {
+			var existing = new Bar(new Foo(1, "a"), 2);
+			var existingFoo = existing.getFoo();
+			
+			var decoded = (Bar) candidate.decode(ByteBufferParser.INSTANCE, encoded.duplicate(), existing);
+			
+			assertEquals(7, decoded.getFoo().getX());
+			assertEquals("b", decoded.getFoo().getS());
+			
+			assertSame(existingFoo, existing.getFoo());
+			assertEquals(7, existingFoo.getX());
+			assertEquals("a", existingFoo.getS());
+			assertEquals(9, existing.getY());
+		}
+	}
+	
+	@Test
+	public void decodeWithoutInstance() {
+		var decoded = BAR.decode(ByteBufferParser.INSTANCE, ByteBufferParser.INSTANCE.encode(BAR, new Bar(new Foo(3, "c"), 4)));
+		
+		assertEquals(3, decoded.getFoo().getX());
+		assertEquals("c", decoded.getFoo().getS());
+		assertEquals(4, decoded.getY());
+	}
+	
+	@Blueprintable
+	public static class Foo {
+		private int x;
+		private String s;
+		
+		public Foo() {
+		}
+		
+		public Foo(int x, String s) {
+			this.x = x;
+			this.s = s;
+		}
+		
+		public int getX() {
+			return x;
+		}
+		
+		public void setX(int x) {
+			this.x = x;
+		}
+		
+		public String getS() {
+			return s;
+		}
+		
+		public void setS(String s) {
+			this.s = s;
+		}
+	}
+	
+	@Blueprintable
+	public static class Bar {
+		private Foo foo;
+		private int y;
+		
+		public Bar() {
+		}
+		
+		public Bar(Foo foo, int y) {
+			this.foo = foo;
+			this.y = y;
+		}
+		
+		public Foo getFoo() {
+			return foo;
+		}
+		
+		public void setFoo(Foo foo) {
+			this.foo = foo;
+		}
+		
+		public int getY() {
+			return y;
+		}
+		
+		public void setY(int y) {
+			this.y = y;
+		}
+	}
+}
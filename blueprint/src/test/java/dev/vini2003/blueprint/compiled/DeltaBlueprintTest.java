@@ -0,0 +1,231 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 - 2022 vini2003
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.vini2003.blueprint.compiled;
+
+import dev.vini2003.blueprint.Blueprint;
+import dev.vini2003.blueprint.buffer.ByteBufferParser;
+import dev.vini2003.blueprint.function.Function2;
+import dev.vini2003.blueprint.function.Function6;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DeltaBlueprintTest {
+	private static final int WIDE_FIELDS = 70;
+	
+	private static final Blueprint<Inner> INNER = Blueprint.compound(
+			Blueprint.PRIMITIVE_INT.key("V").getInt(Inner::getV).setInt(Inner::setV),
+			Blueprint.STRING.key("S").get(Inner::getS),
+			(Function2<Integer, String, Inner>) Inner::new
+	);
+	
+	private static final Blueprint<State> STATE = Blueprint.compound(
+			Blueprint.INTEGER.key("A").get(State::a),
+			Blueprint.STRING.key("B").get(State::b),
+			Blueprint.INTEGER.list().key("C").get(State::c),
+			Blueprint.setter(Blueprint.STRING).key("D").get(State::d),
+			INNER.key("In").get(State::in),
+			Blueprint.map(Blueprint.STRING, Blueprint.INTEGER).key("M").get(State::m),
+			(Function6<Integer, String, List<Integer>, Set<String>, Inner, Map<String, Integer>, State>) State::new
+	);
+	
+	private static final State BASE = new State(1, "abc", range(0, 40), Set.of("a", "b", "c", "d", "e"), new Inner(1, "x"), Map.of("k", 1, "l", 2, "m", 3, "n", 4));
+	
+	@Test
+	public void unchangedValueWritesOnlyMask() {
+		var delta = STATE.delta();
+		
+		var encoded = encode(delta, BASE, BASE);
+		
+		assertEquals(2, encoded.remaining());
+		assertEquals(BASE, delta.decodeDelta(ByteBufferParser.INSTANCE, encoded, BASE));
+	}
+	
+	@Test
+	public void nestedCompoundPatch() {
+		var current = new State(1, "abc", BASE.c(), BASE.d(), new Inner(1, "y"), BASE.m());
+		
+		assertRoundTrip(BASE, current);
+	}
+	
+	@Test
+	public void nestedCompoundPatchIntoInstance() {
+		var delta = STATE.delta();
+		
+		var previous = new State(1, "abc", BASE.c(), BASE.d(), new Inner(1, "x"), BASE.m());
+		var current = new State(1, "abc", BASE.c(), BASE.d(), new Inner(5, "x"), BASE.m());
+		
+		var decoded = delta.decodeDelta(ByteBufferParser.INSTANCE, null, encode(delta, previous, current), previous, previous);
+		
+		assertEquals(current, decoded);
+		assertEquals(5, previous.in().getV());
+	}
+	
+	@Test
+	public void listInsertAndRemoveRuns() {
+		var list = new ArrayList<>(BASE.c());
+		
+		list.subList(5, 8).clear();
+		list.addAll(20, List.of(100, 101, 102));
+		list.remove(list.size() - 1);
+		list.add(0, -1);
+		
+		var current = new State(1, "abc", list, BASE.d(), BASE.in(), BASE.m());
+		
+		var full = ByteBufferParser.INSTANCE.encode(STATE, current).remaining();
+		
+		assertTrue(assertRoundTrip(BASE, current) < full);
+	}
+	
+	@Test
+	public void listRewriteFallsBackToReplace() {
+		var current = new State(1, "abc", range(100, 140), BASE.d(), BASE.in(), BASE.m());
+		
+		assertRoundTrip(BASE, current);
+	}
+	
+	@Test
+	public void setAndMapPatches() {
+		var set = Set.of("a", "b", "c", "d", "f");
+		
+		var map = new HashMap<>(BASE.m());
+		
+		map.remove("k");
+		map.put("l", 20);
+		
+		var current = new State(1, "abc", BASE.c(), set, BASE.in(), map);
+		
+		assertRoundTrip(BASE, current);
+	}
+	
+	@Test
+	public void nullReplaceBits() {
+		var cleared = new State(1, "abc", null, null, null, null);
+		
+		var delta = STATE.delta();
+		
+		var encoded = encode(delta, BASE, cleared);
+		
+		assertEquals(2, encoded.remaining());
+		assertEquals(cleared, delta.decodeDelta(ByteBufferParser.INSTANCE, encoded, BASE));
+		
+		assertRoundTrip(cleared, BASE);
+	}
+	
+	@Test
+	public void wideMask() {
+		var fieldBlueprints = new Blueprint<?>[WIDE_FIELDS];
+		
+		for (var i = 0; i < WIDE_FIELDS; ++i) {
+			var index = i;
+			
+			fieldBlueprints[i] = Blueprint.INTEGER.get((int[] values) -> values[index]).compile();
+		}
+		
+		var compound = new CompiledCompoundBlueprint<int[]>(null, null, null, null, fieldBlueprints, null, (values) -> Arrays.stream(values).mapToInt((value) -> (Integer) value).toArray(), false);
+		
+		var delta = new DeltaBlueprint<>(compound);
+		
+		var previous = new int[WIDE_FIELDS];
+		
+		for (var changed : new int[][] { { 0 }, { 63 }, { 64 }, { 69 }, { 1, 62, 63, 64, 68 } }) {
+			var current = previous.clone();
+			
+			for (var index : changed) {
+				current[index] = index + 1;
+			}
+			
+			var decoded = delta.decodeDelta(ByteBufferParser.INSTANCE, encode(delta, previous, current), previous);
+			
+			assertArrayEquals(current, decoded);
+		}
+	}
+	
+	private static int assertRoundTrip(State previous, State current) {
+		var delta = STATE.delta();
+		
+		var encoded = encode(delta, previous, current);
+		
+		var size = encoded.remaining();
+		
+		assertEquals(current, delta.decodeDelta(ByteBufferParser.INSTANCE, encoded, previous));
+		assertFalse(encoded.hasRemaining());
+		
+		return size;
+	}
+	
+	private static <T> ByteBuffer encode(DeltaBlueprint<T> delta, T previous, T current) {
+		return delta.encodeDelta(ByteBufferParser.INSTANCE, previous, current).getBuffer().flip();
+	}
+	
+	private static List<Integer> range(int start, int end) {
+		return IntStream.range(start, end).boxed().collect(Collectors.toList());
+	}
+	
+	public record State(Integer a, String b, List<Integer> c, Set<String> d, Inner in, Map<String, Integer> m) {
+	}
+	
+	public static class Inner {
+		private int v;
+		private String s;
+		
+		public Inner(int v, String s) {
+			this.v = v;
+			this.s = s;
+		}
+		
+		public int getV() {
+			return v;
+		}
+		
+		public void setV(int v) {
+			this.v = v;
+		}
+		
+		public String getS() {
+			return s;
+		}
+		
+		@Override
+		public boolean equals(Object object) {
+			return object instanceof Inner inner && v == inner.v && s.equals(inner.s);
+		}
+		
+		@Override
+		public int hashCode() {
+			return 31 * v + s.hashCode();
+		}
+	}
+}
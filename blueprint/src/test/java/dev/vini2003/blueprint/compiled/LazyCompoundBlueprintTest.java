@@ -0,0 +1,88 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 - 2022 vini2003
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.vini2003.blueprint.compiled;
+
+import dev.vini2003.blueprint.Blueprint;
+import dev.vini2003.blueprint.buffer.ByteBufferParser;
+import dev.vini2003.blueprint.exception.BlueprintException;
+import dev.vini2003.blueprint.function.Function3;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LazyCompoundBlueprintTest {
+	private static final Blueprint<Entry> ENTRY = Blueprint.compound(
+			Blueprint.INTEGER.key("Id").get(Entry::id),
+			Blueprint.STRING.key("Name").get(Entry::name),
+			Blueprint.DOUBLE.list().key("Values").get(Entry::values),
+			(Function3<Integer, String, List<Double>, Entry>) Entry::new
+	);
+	
+	private static final Entry VALUE = new Entry(7, "seven", List.of(1.0, 2.0, 3.0));
+	
+	@Test
+	public void lazyDecode() {
+		var lazy = ENTRY.lazy().decode(ByteBufferParser.INSTANCE, ByteBufferParser.INSTANCE.encode(ENTRY, VALUE));
+		
+		assertEquals("seven", lazy.get("Name"));
+		assertEquals(7, (Integer) lazy.get("Id"));
+		assertEquals(VALUE, lazy.get());
+		
+		assertThrows(BlueprintException.class, () -> lazy.get("Missing"));
+	}
+	
+	@Test
+	public void lazyRoundTrip() {
+		var lazy = ENTRY.lazy();
+		
+		var decoded = lazy.decode(ByteBufferParser.INSTANCE, ByteBufferParser.INSTANCE.encode(lazy, new LazyCompound<>(lazy.getCompound(), VALUE)));
+		
+		assertEquals(VALUE, decoded.get());
+	}
+	
+	@Test
+	public void projectionSkipsOtherFields() {
+		var buffer = ByteBufferParser.INSTANCE.encode(ENTRY, VALUE);
+		
+		var projection = ENTRY.project("Values").decode(ByteBufferParser.INSTANCE, buffer);
+		
+		assertFalse(buffer.hasRemaining());
+		
+		assertEquals(VALUE.values(), projection.get("Values"));
+		assertFalse(projection.isDecoded(0));
+		
+		assertThrows(BlueprintException.class, () -> projection.get("Id"));
+	}
+	
+	@Test
+	public void projectionOfMissingFieldFails() {
+		assertThrows(BlueprintException.class, () -> ENTRY.project("Missing"));
+	}
+	
+	public record Entry(Integer id, String name, List<Double> values) {
+	}
+}
@@ -0,0 +1,107 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 - 2022 vini2003
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.vini2003.blueprint.generic;
+
+import dev.vini2003.blueprint.Blueprint;
+import dev.vini2003.blueprint.annotation.Blueprintable;
+import dev.vini2003.blueprint.buffer.ByteBufferParser;
+import dev.vini2003.blueprint.encoding.ClassDictionary;
+import dev.vini2003.blueprint.exception.DecoderException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PolymorphicBlueprintTest {
+	private static final Mixed MIXED = new Mixed(List.of(1, "a", "b", 2), List.of("c", 3));
+	
+	@Test
+	public void roundTrip() {
+		Blueprint<Mixed> blueprint = Blueprint.of(Mixed.class);
+		
+		var decoded = ByteBufferParser.INSTANCE.decode(blueprint, ByteBufferParser.INSTANCE.encode(blueprint, MIXED));
+		
+		assertEquals(MIXED.getFirst(), decoded.getFirst());
+		assertEquals(MIXED.getSecond(), decoded.getSecond());
+	}
+	
+	@Test
+	public void classTablesUseDictionary() {
+		Blueprint<Mixed> blueprint = Blueprint.of(Mixed.class);
+		
+		var plain = ByteBufferParser.INSTANCE.encode(blueprint, MIXED);
+		
+		ByteBuffer buffer;
+		
+		try (var dictionary = ClassDictionary.open()) {
+			buffer = ByteBufferParser.INSTANCE.encode(blueprint, MIXED);
+		}
+		
+		// The second table repeats both classes, so it is written as IDs.
+		assertTrue(buffer.remaining() < plain.remaining());
+		
+		try (var dictionary = ClassDictionary.open()) {
+			var decoded = ByteBufferParser.INSTANCE.decode(blueprint, buffer.duplicate());
+			
+			assertEquals(MIXED.getFirst(), decoded.getFirst());
+			assertEquals(MIXED.getSecond(), decoded.getSecond());
+		}
+		
+		assertThrows(DecoderException.class, () -> ByteBufferParser.INSTANCE.decode(blueprint, buffer.duplicate()));
+	}
+	
+	@Blueprintable
+	public static class Mixed {
+		private List<Object> first = new ArrayList<>();
+		private List<Object> second = new ArrayList<>();
+		
+		public Mixed() {
+		}
+		
+		public Mixed(List<Object> first, List<Object> second) {
+			this.first = first;
+			this.second = second;
+		}
+		
+		public List<Object> getFirst() {
+			return first;
+		}
+		
+		public void setFirst(List<Object> first) {
+			this.first = first;
+		}
+		
+		public List<Object> getSecond() {
+			return second;
+		}
+		
+		public void setSecond(List<Object> second) {
+			this.second = second;
+		}
+	}
+}